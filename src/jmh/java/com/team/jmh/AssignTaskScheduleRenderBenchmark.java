@@ -0,0 +1,70 @@
+package com.team.jmh;
+
+import com.team.assignTaskSchedule.AssignTaskSchedulePage;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.SearchDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import javax.servlet.ServletContext;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thymeleaf rendering of AssignTaskSchedule.html alone: the page of assignments is loaded once, so each
+ * invocation only renders it into a mock response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssignTaskScheduleRenderBenchmark {
+
+    @Param({"25", "500"})
+    private int rows;
+
+    private WebApplicationContext context;
+    private View view;
+    private Map<String, Object> model;
+
+    @Setup
+    public void setUp(SeededApplication application) throws Exception {
+        context = (WebApplicationContext) application.context();
+        view = application.bean(ThymeleafViewResolver.class).resolveViewName("AssignTaskSchedule", Locale.ENGLISH);
+        AssignTaskSchedulePage page = application.bean(AssignTaskScheduleService.class)
+                .getTaskSchedulePage(null, null, rows);
+        model = new HashMap<>();
+        model.put("assignTaskSchedules", page.getContent());
+        model.put("page", page);
+        model.put("searchDto", new SearchDto());
+    }
+
+    @Benchmark
+    public int render() throws Exception {
+        ServletContext servletContext = context.getServletContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/");
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        view.render(new HashMap<>(model), request, response);
+        return response.getContentAsByteArray().length;
+    }
+}
@@ -0,0 +1,70 @@
+package com.team.jmh;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskSchedulePage;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.SearchDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of AssignTaskScheduleService over the seeded assignments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssignTaskScheduleServiceBenchmark {
+
+    private AssignTaskScheduleService assignTaskScheduleService;
+    private SearchDto week;
+    private SearchDto quarter;
+
+    @Setup
+    public void setUp(SeededApplication application) {
+        assignTaskScheduleService = application.bean(AssignTaskScheduleService.class);
+        week = window(SeededApplication.FIRST_DAY.plusDays(180).toString(), SeededApplication.FIRST_DAY.plusDays(186).toString());
+        quarter = window(SeededApplication.FIRST_DAY.plusDays(180).toString(), SeededApplication.FIRST_DAY.plusDays(270).toString());
+    }
+
+    @Benchmark
+    public List<AssignTaskScheduleEntity> findByDateBetweenWeek() {
+        return assignTaskScheduleService.findByDateBetween(week);
+    }
+
+    @Benchmark
+    public List<AssignTaskScheduleEntity> findByDateBetweenQuarter() {
+        return assignTaskScheduleService.findByDateBetween(quarter);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<AssignTaskScheduleEntity> getTaskSchedules() {
+        return assignTaskScheduleService.getTaskSchedules();
+    }
+
+    @Benchmark
+    public AssignTaskSchedulePage getTaskSchedulePage() {
+        return assignTaskScheduleService.getTaskSchedulePage(null, null, 25);
+    }
+
+    private static SearchDto window(String startDate, String endDate) {
+        SearchDto searchDto = new SearchDto();
+        searchDto.setStartDateStr(startDate);
+        searchDto.setEndDateStr(endDate);
+        return searchDto;
+    }
+}
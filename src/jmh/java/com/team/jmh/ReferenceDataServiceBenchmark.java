@@ -0,0 +1,78 @@
+package com.team.jmh;
+
+import com.team.common.OptionView;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerService;
+import com.team.schedule.ScheduleEntity;
+import com.team.schedule.ScheduleService;
+import com.team.task.TaskEntity;
+import com.team.task.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of the player, task and schedule services: the cached lists the forms load, type-ahead search
+ * and single lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceDataServiceBenchmark {
+
+    private PlayerService playerService;
+    private TaskService taskService;
+    private ScheduleService scheduleService;
+
+    @Setup
+    public void setUp(SeededApplication application) {
+        playerService = application.bean(PlayerService.class);
+        taskService = application.bean(TaskService.class);
+        scheduleService = application.bean(ScheduleService.class);
+    }
+
+    @Benchmark
+    public List<PlayerEntity> getPlayersCached() {
+        return playerService.getPlayers();
+    }
+
+    @Benchmark
+    public List<TaskEntity> getTasksCached() {
+        return taskService.getTasks();
+    }
+
+    @Benchmark
+    public List<ScheduleEntity> getSchedulesCached() {
+        return scheduleService.getSchedules();
+    }
+
+    @Benchmark
+    public Page<PlayerEntity> getPlayerPage() {
+        return playerService.getPage(PageRequest.of(10, 50));
+    }
+
+    @Benchmark
+    public List<OptionView> searchPlayerOptions() {
+        return playerService.searchOptions("first12", 20);
+    }
+
+    @Benchmark
+    public PlayerEntity getPlayerById() {
+        return playerService.getById(1L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.team.jmh;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerService;
+import com.team.schedule.ScheduleEntity;
+import com.team.schedule.ScheduleService;
+import com.team.task.TaskEntity;
+import com.team.task.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write paths of the four services: creates, a versioned partial update and a conflict-checked assignment.
+ * Each created assignment books a fresh two-day slot after the seeded dates so none is rejected as overlapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SavePathBenchmark {
+
+    private static final LocalDate FREE_DAYS = LocalDate.of(3000, 1, 1);
+
+    private PlayerService playerService;
+    private TaskService taskService;
+    private ScheduleService scheduleService;
+    private AssignTaskScheduleService assignTaskScheduleService;
+    private PlayerEntity player;
+    private TaskEntity task;
+    private ScheduleEntity schedule;
+    private long saved;
+
+    @Setup
+    public void setUp(SeededApplication application) {
+        playerService = application.bean(PlayerService.class);
+        taskService = application.bean(TaskService.class);
+        scheduleService = application.bean(ScheduleService.class);
+        assignTaskScheduleService = application.bean(AssignTaskScheduleService.class);
+        player = playerService.getById(1L);
+        task = taskService.getById(1L);
+        schedule = scheduleService.getById(1L);
+    }
+
+    @Benchmark
+    public PlayerEntity createPlayer() {
+        PlayerEntity created = new PlayerEntity();
+        created.setFirstName("Bench");
+        created.setLastName("Player" + saved++);
+        created.setEmail("bench" + saved + "@example.com");
+        created.setType("Pro");
+        created.setCreatedOn(LocalDateTime.now());
+        return playerService.create(created);
+    }
+
+    @Benchmark
+    public TaskEntity createTask() {
+        TaskEntity created = new TaskEntity();
+        created.setName("Bench task " + saved++);
+        created.setDescription("Benchmark");
+        created.setCreatedOn(LocalDateTime.now());
+        return taskService.create(created);
+    }
+
+    @Benchmark
+    public ScheduleEntity createSchedule() {
+        ScheduleEntity created = new ScheduleEntity();
+        created.setName("Bench schedule " + saved++);
+        created.setDescription("Benchmark");
+        created.setStartDate(FREE_DAYS);
+        created.setEndDate(FREE_DAYS.plusDays(1));
+        created.setCreatedOn(LocalDateTime.now());
+        return scheduleService.create(created);
+    }
+
+    @Benchmark
+    public void updatePlayer() {
+        PlayerEntity changes = new PlayerEntity();
+        changes.setRank((int) (saved++ % 10));
+        changes.setUpdatedOn(LocalDateTime.now());
+        playerService.update(1L, changes);
+    }
+
+    @Benchmark
+    public AssignTaskScheduleEntity createAssignment() {
+        LocalDate startDate = FREE_DAYS.plusDays(2 * saved++);
+        AssignTaskScheduleEntity created = new AssignTaskScheduleEntity();
+        created.setPlayer(player);
+        created.setTask(task);
+        created.setSchedule(schedule);
+        created.setStartDate(startDate);
+        created.setEndDate(startDate.plusDays(1));
+        created.setCreatedOn(LocalDateTime.now());
+        return assignTaskScheduleService.create(created);
+    }
+}
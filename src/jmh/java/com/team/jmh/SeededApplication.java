@@ -0,0 +1,57 @@
+package com.team.jmh;
+
+import com.team.TeamManagementApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+
+/**
+ * The application on a random port with its in-memory H2 filled by the dataset generator at production-like
+ * sizes, started once per benchmark fork. Sizes can be changed through system properties, e.g.
+ * -Djmh.args="-jvmArgs -Dteam.jmh.assignments=100000".
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    static final int PLAYERS = Integer.getInteger("team.jmh.players", 2_000);
+    static final int TASKS = Integer.getInteger("team.jmh.tasks", 100);
+    static final int SCHEDULES = Integer.getInteger("team.jmh.schedules", 500);
+    static final int ASSIGNMENTS = Integer.getInteger("team.jmh.assignments", 20_000);
+    static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    static final int DAYS = 730;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TeamManagementApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN",
+                        "team.dataset.generate=true",
+                        "team.dataset.players=" + PLAYERS,
+                        "team.dataset.tasks=" + TASKS,
+                        "team.dataset.schedules=" + SCHEDULES,
+                        "team.dataset.assignments=" + ASSIGNMENTS,
+                        "team.dataset.first-day=" + FIRST_DAY,
+                        "team.dataset.days=" + DAYS)
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
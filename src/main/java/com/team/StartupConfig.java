@@ -0,0 +1,33 @@
+package com.team;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleController;
+import com.team.assignTaskSchedule.AssignTaskScheduleIntervalIndex;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup wiring used by the fast-startup profile. With lazy initialization on, only the home page controller,
+ * the services behind it and the interval index are still created at startup; every other controller waits for
+ * its first request. A training run, which the Maven build uses to record the classes for the AppCDS archive,
+ * exits as soon as the application is ready.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter homePageBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AssignTaskScheduleController.class,
+                AssignTaskScheduleIntervalIndex.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "team.startup.training-run", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> exitAfterTrainingRun() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.team.admin;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.team.common.SlowQueryLog;
+import com.team.common.SlowQueryView;
+import com.team.jfr.FlightRecordings;
+import com.team.jfr.RecordingStatusView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Controller
+@RequestMapping("/admin")
+public class AdminController {
+
+    @Autowired
+    private CaffeineCacheManager caffeineCacheManager;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private FlightRecordings flightRecordings;
+
+    @GetMapping("/cache-stats")
+    @ResponseBody
+    public Map<String, CacheStatsView> getCacheStats() {
+        Map<String, CacheStatsView> stats = new TreeMap<>();
+        for (String name : caffeineCacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = ((CaffeineCache) caffeineCacheManager.getCache(name)).getNativeCache();
+            stats.put(name, CacheStatsView.of(cache.estimatedSize(), cache.stats()));
+        }
+        return stats;
+    }
+
+    @GetMapping("/slow-queries")
+    @ResponseBody
+    public List<SlowQueryView> getSlowQueries() {
+        return slowQueryLog.top();
+    }
+
+    @GetMapping("/jfr")
+    @ResponseBody
+    public RecordingStatusView getRecording() {
+        return flightRecordings.status();
+    }
+
+    /**
+     * Starts a flight recording that stops by itself after durationSeconds; zero or less means the configured
+     * maximum.
+     */
+    @PostMapping("/jfr/start")
+    @ResponseBody
+    public RecordingStatusView startRecording(@RequestParam(value = "durationSeconds", defaultValue = "300") long durationSeconds,
+                                              @RequestParam(value = "maxSizeMb", defaultValue = "100") long maxSizeMb) {
+        return flightRecordings.start(durationSeconds, maxSizeMb);
+    }
+
+    @PostMapping("/jfr/stop")
+    @ResponseBody
+    public RecordingStatusView stopRecording() {
+        return flightRecordings.stop();
+    }
+
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() {
+        Path file = flightRecordings.dump();
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=team-management.jfr")
+                .body(body);
+    }
+}
@@ -0,0 +1,22 @@
+package com.team.admin;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsView {
+
+    private long size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+
+    public static CacheStatsView of(long size, CacheStats stats) {
+        return new CacheStatsView(size, stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
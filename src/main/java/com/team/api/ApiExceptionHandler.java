@@ -0,0 +1,33 @@
+package com.team.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Maps lookup and argument failures of the JSON API to 404 and 400 with a {"error": message} body, instead
+ * of the HTML error page the view controllers fall back to.
+ */
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> notFound(NoSuchElementException e) {
+        return error(HttpStatus.NOT_FOUND, "Not found");
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, DateTimeParseException.class, UnknownFieldException.class})
+    public ResponseEntity<Map<String, String>> badRequest(RuntimeException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    private static ResponseEntity<Map<String, String>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(Collections.singletonMap("error", message));
+    }
+}
@@ -0,0 +1,115 @@
+package com.team.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.beans.BeanUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The JSON properties an API resource exposes, each read through a plain getter and written straight to a
+ * JsonGenerator. Responses only touch the properties a client selects and never walk lazy associations.
+ * Each name must be a bean property of the resource type, so a typo fails when the fields are declared
+ * rather than surfacing as a field no client can select.
+ */
+public final class ApiFields<T> {
+
+    private final Class<T> type;
+    private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+
+    private ApiFields(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T> ApiFields<T> of(Class<T> type) {
+        return new ApiFields<>(type);
+    }
+
+    public ApiFields<T> number(String name, Function<T, ? extends Number> getter) {
+        add(name, (generator, item) -> {
+            Number value = getter.apply(item);
+            if (value == null) {
+                generator.writeNullField(name);
+            } else {
+                generator.writeNumberField(name, value.longValue());
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Adds a property written as the string form of its value, which suits text as well as ISO dates and times.
+     */
+    public ApiFields<T> string(String name, Function<T, ?> getter) {
+        add(name, (generator, item) -> {
+            Object value = getter.apply(item);
+            if (value == null) {
+                generator.writeNullField(name);
+            } else {
+                generator.writeStringField(name, value.toString());
+            }
+        });
+        return this;
+    }
+
+    private void add(String name, Field<T> field) {
+        if (BeanUtils.getPropertyDescriptor(type, name) == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " has no property '" + name + "'");
+        }
+        fields.put(name, field);
+    }
+
+    /**
+     * Returns the properties named in a comma-separated list such as "id,name", in declaration order.
+     * A blank list selects every property.
+     */
+    public Selection<T> select(String names) {
+        if (names == null || names.trim().isEmpty()) {
+            return new Selection<>(new ArrayList<>(fields.values()));
+        }
+        List<String> requested = new ArrayList<>();
+        for (String name : names.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!fields.containsKey(trimmed)) {
+                throw new UnknownFieldException(trimmed, fields.keySet());
+            }
+            requested.add(trimmed);
+        }
+        List<Field<T>> selected = new ArrayList<>();
+        fields.forEach((name, field) -> {
+            if (requested.contains(name)) {
+                selected.add(field);
+            }
+        });
+        return new Selection<>(selected);
+    }
+
+    public static final class Selection<T> {
+
+        private final List<Field<T>> fields;
+
+        private Selection(List<Field<T>> fields) {
+            this.fields = fields;
+        }
+
+        public void write(JsonGenerator generator, T item) throws IOException {
+            generator.writeStartObject();
+            for (Field<T> field : fields) {
+                field.write(generator, item);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private interface Field<T> {
+
+        void write(JsonGenerator generator, T item) throws IOException;
+    }
+}
@@ -0,0 +1,118 @@
+package com.team.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes API responses through a streaming JsonGenerator, item by item, without building a tree or a map
+ * per item first.
+ */
+final class ApiJson {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private ApiJson() {
+    }
+
+    static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Offset page request ordered by id, so pages stay stable while rows are added.
+     */
+    static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), pageSize(size), Sort.by("id"));
+    }
+
+    static <T> void writeItem(HttpServletResponse response, T item, ApiFields.Selection<T> fields) throws IOException {
+        try (JsonGenerator generator = open(response)) {
+            fields.write(generator, item);
+        }
+    }
+
+    /**
+     * Writes {"page", "size", "totalElements", "totalPages", "items"} for an offset page.
+     */
+    static <T> void writePage(HttpServletResponse response, Page<T> page, ApiFields.Selection<T> fields) throws IOException {
+        try (JsonGenerator generator = open(response)) {
+            generator.writeStartObject();
+            generator.writeNumberField("page", page.getNumber());
+            generator.writeNumberField("size", page.getSize());
+            generator.writeNumberField("totalElements", page.getTotalElements());
+            generator.writeNumberField("totalPages", page.getTotalPages());
+            writeItems(generator, page.getContent(), fields);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {"size", "next", "items"} for a keyset page; next is the cursor of the following page, or null
+     * on the last one.
+     */
+    static <T> void writeKeysetPage(HttpServletResponse response, List<T> items, int size, String next,
+                                    ApiFields.Selection<T> fields) throws IOException {
+        try (JsonGenerator generator = open(response)) {
+            generator.writeStartObject();
+            generator.writeNumberField("size", size);
+            generator.writeStringField("next", next);
+            writeItems(generator, items, fields);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns a body that writes a JSON array of whatever the source hands to its consumer, flushing as the
+     * output buffer fills, so collections of any size go out in constant memory.
+     */
+    static <T> StreamingResponseBody array(Consumer<Consumer<T>> source, ApiFields.Selection<T> fields) {
+        return outputStream -> {
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                source.accept(item -> {
+                    try {
+                        fields.write(generator, item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+
+    private static <T> void writeItems(JsonGenerator generator, List<T> items, ApiFields.Selection<T> fields)
+            throws IOException {
+        generator.writeArrayFieldStart("items");
+        for (T item : items) {
+            fields.write(generator, item);
+        }
+        generator.writeEndArray();
+    }
+
+    private static JsonGenerator open(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream outputStream = response.getOutputStream();
+        return JSON_FACTORY.createGenerator(outputStream);
+    }
+}
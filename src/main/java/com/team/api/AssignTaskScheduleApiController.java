@@ -0,0 +1,84 @@
+package com.team.api;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleRow;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.KeysetCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Assignments as flat rows carrying the ids and names of their player, task and schedule. Collections are
+ * paged by keyset cursor ("next" in the response), and /all streams every matching row in one array.
+ */
+@RestController
+@RequestMapping("/api/v1/assignments")
+public class AssignTaskScheduleApiController {
+
+    static final ApiFields<AssignTaskScheduleRow> FIELDS = ApiFields.of(AssignTaskScheduleRow.class)
+            .number("id", AssignTaskScheduleRow::getId)
+            .number("playerId", AssignTaskScheduleRow::getPlayerId)
+            .string("playerFirstName", AssignTaskScheduleRow::getPlayerFirstName)
+            .string("playerLastName", AssignTaskScheduleRow::getPlayerLastName)
+            .number("taskId", AssignTaskScheduleRow::getTaskId)
+            .string("taskName", AssignTaskScheduleRow::getTaskName)
+            .number("scheduleId", AssignTaskScheduleRow::getScheduleId)
+            .string("scheduleName", AssignTaskScheduleRow::getScheduleName)
+            .string("startDate", AssignTaskScheduleRow::getStartDate)
+            .string("endDate", AssignTaskScheduleRow::getEndDate);
+
+    @Autowired
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @GetMapping
+    public void getAssignments(
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            @RequestParam(value = "fields", required = false) String fields,
+            HttpServletResponse response) throws IOException {
+        ApiFields.Selection<AssignTaskScheduleRow> selection = FIELDS.select(fields);
+        int pageSize = ApiJson.pageSize(size);
+        List<AssignTaskScheduleRow> rows = assignTaskScheduleService.getRowsAfter(
+                startDate, endDate, KeysetCursor.parse(after), pageSize + 1);
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            next = KeysetCursor.of(rows.get(pageSize - 1)).encode();
+        }
+        ApiJson.writeKeysetPage(response, rows, pageSize, next, selection);
+    }
+
+    @GetMapping("/all")
+    public ResponseEntity<StreamingResponseBody> getAllAssignments(
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ApiFields.Selection<AssignTaskScheduleRow> selection = FIELDS.select(fields);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiJson.array(consumer -> assignTaskScheduleService.exportOverlapping(startDate, endDate, consumer),
+                        selection));
+    }
+
+    @GetMapping("/{id}")
+    public void getAssignment(@PathVariable("id") Long id,
+                              @RequestParam(value = "fields", required = false) String fields,
+                              HttpServletResponse response) throws IOException {
+        ApiFields.Selection<AssignTaskScheduleRow> selection = FIELDS.select(fields);
+        ApiJson.writeItem(response, assignTaskScheduleService.getRowById(id), selection);
+    }
+}
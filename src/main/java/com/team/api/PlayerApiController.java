@@ -0,0 +1,49 @@
+package com.team.api;
+
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/players")
+public class PlayerApiController {
+
+    static final ApiFields<PlayerEntity> FIELDS = ApiFields.of(PlayerEntity.class)
+            .number("id", PlayerEntity::getId)
+            .string("firstName", PlayerEntity::getFirstName)
+            .string("lastName", PlayerEntity::getLastName)
+            .string("email", PlayerEntity::getEmail)
+            .number("rank", PlayerEntity::getRank)
+            .string("type", PlayerEntity::getType)
+            .string("createdOn", PlayerEntity::getCreatedOn)
+            .string("updatedOn", PlayerEntity::getUpdatedOn)
+            .number("version", PlayerEntity::getVersion);
+
+    @Autowired
+    private PlayerService playerService;
+
+    @GetMapping
+    public void getPlayers(@RequestParam(value = "page", defaultValue = "0") int page,
+                           @RequestParam(value = "size", defaultValue = "50") int size,
+                           @RequestParam(value = "fields", required = false) String fields,
+                           HttpServletResponse response) throws IOException {
+        ApiFields.Selection<PlayerEntity> selection = FIELDS.select(fields);
+        ApiJson.writePage(response, playerService.getPage(ApiJson.pageRequest(page, size)), selection);
+    }
+
+    @GetMapping("/{id}")
+    public void getPlayer(@PathVariable("id") Long id,
+                          @RequestParam(value = "fields", required = false) String fields,
+                          HttpServletResponse response) throws IOException {
+        ApiFields.Selection<PlayerEntity> selection = FIELDS.select(fields);
+        ApiJson.writeItem(response, playerService.getById(id), selection);
+    }
+}
@@ -0,0 +1,49 @@
+package com.team.api;
+
+import com.team.schedule.ScheduleEntity;
+import com.team.schedule.ScheduleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/schedules")
+public class ScheduleApiController {
+
+    static final ApiFields<ScheduleEntity> FIELDS = ApiFields.of(ScheduleEntity.class)
+            .number("id", ScheduleEntity::getId)
+            .string("name", ScheduleEntity::getName)
+            .string("description", ScheduleEntity::getDescription)
+            .string("type", ScheduleEntity::getType)
+            .string("startDate", ScheduleEntity::getStartDate)
+            .string("endDate", ScheduleEntity::getEndDate)
+            .string("createdOn", ScheduleEntity::getCreatedOn)
+            .string("updatedOn", ScheduleEntity::getUpdatedOn)
+            .number("version", ScheduleEntity::getVersion);
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @GetMapping
+    public void getSchedules(@RequestParam(value = "page", defaultValue = "0") int page,
+                             @RequestParam(value = "size", defaultValue = "50") int size,
+                             @RequestParam(value = "fields", required = false) String fields,
+                             HttpServletResponse response) throws IOException {
+        ApiFields.Selection<ScheduleEntity> selection = FIELDS.select(fields);
+        ApiJson.writePage(response, scheduleService.getPage(ApiJson.pageRequest(page, size)), selection);
+    }
+
+    @GetMapping("/{id}")
+    public void getSchedule(@PathVariable("id") Long id,
+                            @RequestParam(value = "fields", required = false) String fields,
+                            HttpServletResponse response) throws IOException {
+        ApiFields.Selection<ScheduleEntity> selection = FIELDS.select(fields);
+        ApiJson.writeItem(response, scheduleService.getById(id), selection);
+    }
+}
@@ -0,0 +1,47 @@
+package com.team.api;
+
+import com.team.task.TaskEntity;
+import com.team.task.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/tasks")
+public class TaskApiController {
+
+    static final ApiFields<TaskEntity> FIELDS = ApiFields.of(TaskEntity.class)
+            .number("id", TaskEntity::getId)
+            .string("name", TaskEntity::getName)
+            .string("description", TaskEntity::getDescription)
+            .string("type", TaskEntity::getType)
+            .string("createdOn", TaskEntity::getCreatedOn)
+            .string("updatedOn", TaskEntity::getUpdatedOn)
+            .number("version", TaskEntity::getVersion);
+
+    @Autowired
+    private TaskService taskService;
+
+    @GetMapping
+    public void getTasks(@RequestParam(value = "page", defaultValue = "0") int page,
+                         @RequestParam(value = "size", defaultValue = "50") int size,
+                         @RequestParam(value = "fields", required = false) String fields,
+                         HttpServletResponse response) throws IOException {
+        ApiFields.Selection<TaskEntity> selection = FIELDS.select(fields);
+        ApiJson.writePage(response, taskService.getPage(ApiJson.pageRequest(page, size)), selection);
+    }
+
+    @GetMapping("/{id}")
+    public void getTask(@PathVariable("id") Long id,
+                        @RequestParam(value = "fields", required = false) String fields,
+                        HttpServletResponse response) throws IOException {
+        ApiFields.Selection<TaskEntity> selection = FIELDS.select(fields);
+        ApiJson.writeItem(response, taskService.getById(id), selection);
+    }
+}
@@ -0,0 +1,14 @@
+package com.team.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Collection;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnknownFieldException extends RuntimeException {
+
+    public UnknownFieldException(String field, Collection<String> available) {
+        super("Unknown field '" + field + "'; available fields are " + String.join(", ", available));
+    }
+}
@@ -1,18 +1,42 @@
 package com.team.assignTaskSchedule;
 
+import com.team.common.DataVersions;
+import com.team.common.OptionView;
+import com.team.player.PlayerEntity;
 import com.team.player.PlayerService;
 import com.team.schedule.ScheduleEntity;
 import com.team.schedule.ScheduleService;
+import com.team.task.TaskEntity;
 import com.team.task.TaskService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -21,6 +45,9 @@ public class AssignTaskScheduleController {
     @Autowired
     private AssignTaskScheduleService assignTaskScheduleService;
 
+    @Autowired
+    private AssignTaskScheduleWriteBehind writeBehind;
+
     @Autowired
     private PlayerService playerService;
 
@@ -30,28 +57,75 @@ public class AssignTaskScheduleController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Value("${assign-task-schedule.page-size:25}")
+    private int pageSize;
+
     @GetMapping("/")
-    public String getAssignTaskSchedule(Model model){
-        model.addAttribute("assignTaskSchedules", assignTaskScheduleService.getTaskSchedules());
+    public String getAssignTaskSchedule(@RequestParam(value = "after", required = false) String after,
+                                        @RequestParam(value = "before", required = false) String before,
+                                        @RequestParam(value = "size", required = false) Integer size,
+                                        WebRequest request,
+                                        Model model){
+        // The page shows player, task and schedule names, so edits to any of them change it
+        if (dataVersions.checkNotModified(request, DataVersions.Type.ASSIGNMENTS, DataVersions.Type.PLAYERS,
+                DataVersions.Type.TASKS, DataVersions.Type.SCHEDULES)) {
+            return null;
+        }
+        AssignTaskSchedulePage page = assignTaskScheduleService.getTaskSchedulePage(after, before, size != null ? size : pageSize);
+        model.addAttribute("assignTaskSchedules", page.getContent());
+        model.addAttribute("page", page);
         model.addAttribute("searchDto", new SearchDto());
         return "AssignTaskSchedule";
     }
 
+    /**
+     * Renders assignments overlapping the optional window without loading them up front: the template iterates
+     * a lazily fetched source and the response is flushed before each chunk is read, so the header and first
+     * rows reach the browser while later rows are still being queried.
+     */
+    @GetMapping("/stream")
+    public String streamAssignTaskSchedules(
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletResponse response,
+            Model model){
+        model.addAttribute("assignTaskSchedules", assignTaskScheduleService.iterateOverlapping(startDate, endDate, () -> {
+            try {
+                response.flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        model.addAttribute("startDate", startDate);
+        model.addAttribute("endDate", endDate);
+        return "AssignTaskScheduleStream";
+    }
+
     @GetMapping("/add")
     public String createAssignTaskScheduleForm(Model model){
-        model.addAttribute("players", playerService.getPlayers());
-        model.addAttribute("schedules", scheduleService.getSchedules());
-        model.addAttribute("tasks", taskService.getTasks());
+        model.addAttribute("players", playerService.getOptions());
+        model.addAttribute("schedules", scheduleService.getOptions());
+        model.addAttribute("tasks", taskService.getOptions());
         model.addAttribute("assignTaskSchedule", new AssignTaskScheduleEntity());
         return "AddAssignTaskSchedule";
     }
 
     @GetMapping("/edit/{id}")
     public String editAssignTaskScheduleForm(@PathVariable("id") Long id, Model model){
-        model.addAttribute("players", playerService.getPlayers());
-        model.addAttribute("schedules", scheduleService.getSchedules());
-        model.addAttribute("tasks", taskService.getTasks());
-        model.addAttribute("assignTaskSchedule", assignTaskScheduleService.getById(id));
+        AssignTaskScheduleEntity assignTaskSchedule = assignTaskScheduleService.getById(id);
+        PlayerEntity player = assignTaskSchedule.getPlayer();
+        ScheduleEntity schedule = assignTaskSchedule.getSchedule();
+        TaskEntity task = assignTaskSchedule.getTask();
+        model.addAttribute("players", OptionView.withSelected(playerService.getOptions(),
+                player == null ? null : new OptionView(player.getId(), player.getFirstName() + " " + player.getLastName())));
+        model.addAttribute("schedules", OptionView.withSelected(scheduleService.getOptions(),
+                schedule == null ? null : new OptionView(schedule.getId(), schedule.getName())));
+        model.addAttribute("tasks", OptionView.withSelected(taskService.getOptions(),
+                task == null ? null : new OptionView(task.getId(), task.getName())));
+        model.addAttribute("assignTaskSchedule", assignTaskSchedule);
         return "EditAssignTaskSchedule";
     }
 
@@ -60,25 +134,70 @@ public class AssignTaskScheduleController {
         assignTaskSchedule.setStartDate(assignTaskSchedule.getSchedule().getStartDate());
         assignTaskSchedule.setEndDate(assignTaskSchedule.getSchedule().getEndDate());
         assignTaskSchedule.setCreatedOn(LocalDateTime.now());
-        AssignTaskScheduleEntity taskEntity = assignTaskScheduleService.create(assignTaskSchedule);
+        AssignTaskScheduleEntity taskEntity = writeBehind.isEnabled()
+                ? writeBehind.create(assignTaskSchedule)
+                : assignTaskScheduleService.create(assignTaskSchedule);
         return "redirect:/";
     }
 
     @PostMapping("/update/{id}")
     public String createAssignTaskSchedule(@PathVariable("id") Long id, @ModelAttribute("assignTaskSchedule") AssignTaskScheduleEntity assignTaskSchedule ){
-        AssignTaskScheduleEntity existingAssignTaskSchedule = assignTaskScheduleService.getById(id);
-        existingAssignTaskSchedule.setTask(assignTaskSchedule.getTask());
-        existingAssignTaskSchedule.setPlayer(assignTaskSchedule.getPlayer());
-        existingAssignTaskSchedule.setSchedule(assignTaskSchedule.getSchedule());
-        existingAssignTaskSchedule.setStartDate(assignTaskSchedule.getSchedule().getStartDate());
-        existingAssignTaskSchedule.setEndDate(assignTaskSchedule.getSchedule().getEndDate());
-        existingAssignTaskSchedule.setUpdatedOn(LocalDateTime.now());
-        AssignTaskScheduleEntity assignTaskScheduleEntity = assignTaskScheduleService.create(existingAssignTaskSchedule);
+        assignTaskSchedule.setStartDate(assignTaskSchedule.getSchedule().getStartDate());
+        assignTaskSchedule.setEndDate(assignTaskSchedule.getSchedule().getEndDate());
+        assignTaskSchedule.setUpdatedOn(LocalDateTime.now());
+        assignTaskScheduleService.update(id, assignTaskSchedule);
         return "redirect:/";
     }
 
+    @PostMapping("/bulk-create")
+    @ResponseBody
+    public List<BulkAssignResult> bulkCreateAssignTaskSchedules(@RequestParam("taskId") Long taskId,
+                                                                @RequestParam("scheduleId") Long scheduleId,
+                                                                @RequestParam("playerIds") List<Long> playerIds){
+        List<BulkAssignRow> rows = new ArrayList<>(playerIds.size());
+        for (int i = 0; i < playerIds.size(); i++) {
+            rows.add(new BulkAssignRow(i + 1, playerIds.get(i), taskId, scheduleId));
+        }
+        return assignTaskScheduleService.bulkCreate(rows);
+    }
+
+    @PostMapping("/bulk-create/csv")
+    @ResponseBody
+    public List<BulkAssignResult> bulkCreateAssignTaskSchedulesFromCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            return assignTaskScheduleService.bulkCreateCsv(reader);
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAssignTaskSchedules(
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "format", defaultValue = "csv") String format){
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"csv".equalsIgnoreCase(format)) {
+            throw new UnsupportedExportFormatException(format);
+        }
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            AssignTaskScheduleExportWriter exportWriter = ndjson
+                    ? AssignTaskScheduleExportWriter.ndjson(writer)
+                    : AssignTaskScheduleExportWriter.csv(writer);
+            exportWriter.writeHeader();
+            assignTaskScheduleService.exportOverlapping(startDate, endDate, exportWriter::writeUnchecked);
+            exportWriter.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ndjson ? "application/x-ndjson" : "text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=assignments." + (ndjson ? "ndjson" : "csv"))
+                .body(body);
+    }
+
     @PostMapping("/search")
     public String searchSchedule(@ModelAttribute("searchDto") SearchDto searchDto, Model model ){
+        if (searchDto.isBlank()) {
+            return "redirect:/";
+        }
         model.addAttribute("assignTaskSchedules", assignTaskScheduleService.findByDateBetween(searchDto));
         model.addAttribute("searchDto", searchDto);
         return "AssignTaskSchedule";
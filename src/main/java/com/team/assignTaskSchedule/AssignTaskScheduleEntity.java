@@ -12,24 +12,38 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = AssignTaskScheduleEntity.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("player"),
+        @NamedAttributeNode("task"),
+        @NamedAttributeNode("schedule")
+})
+@Table(indexes = {
+        @Index(name = "idx_assign_task_schedule_start_id", columnList = "startDate, id"),
+        @Index(name = "idx_assign_task_schedule_start_end", columnList = "startDate, endDate"),
+        @Index(name = "idx_assign_task_schedule_end_start", columnList = "endDate, startDate"),
+        @Index(name = "idx_assign_task_schedule_player_start", columnList = "player_id, startDate")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class AssignTaskScheduleEntity {
 
+    public static final String DETAILS_GRAPH = "AssignTaskScheduleEntity.details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assign_task_schedule_seq")
+    @SequenceGenerator(name = "assign_task_schedule_seq", sequenceName = "assign_task_schedule_seq", allocationSize = 50)
     private Long id;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id")
     private PlayerEntity player;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     private TaskEntity task;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "schedule_id")
     private ScheduleEntity schedule;
 
@@ -39,4 +53,7 @@ public class AssignTaskScheduleEntity {
     private LocalDateTime createdOn;
     private LocalDateTime updatedOn;
 
+    @Version
+    private Long version;
+
 }
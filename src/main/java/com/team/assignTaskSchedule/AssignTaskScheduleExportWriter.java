@@ -0,0 +1,141 @@
+package com.team.assignTaskSchedule;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * Writes exported assignment rows one at a time as CSV or newline-delimited JSON.
+ */
+public abstract class AssignTaskScheduleExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final Writer writer;
+
+    protected AssignTaskScheduleExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static AssignTaskScheduleExportWriter csv(Writer writer) {
+        return new Csv(writer);
+    }
+
+    public static AssignTaskScheduleExportWriter ndjson(Writer writer) throws IOException {
+        return new NdJson(writer);
+    }
+
+    public abstract void writeHeader() throws IOException;
+
+    public abstract void write(AssignTaskScheduleRow row) throws IOException;
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    public void writeUnchecked(AssignTaskScheduleRow row) {
+        try {
+            write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Csv extends AssignTaskScheduleExportWriter {
+
+        private Csv(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write("id,playerId,playerFirstName,playerLastName,taskId,taskName,scheduleId,scheduleName,startDate,endDate\n");
+        }
+
+        @Override
+        public void write(AssignTaskScheduleRow row) throws IOException {
+            field(row.getId(), ',');
+            field(row.getPlayerId(), ',');
+            field(row.getPlayerFirstName(), ',');
+            field(row.getPlayerLastName(), ',');
+            field(row.getTaskId(), ',');
+            field(row.getTaskName(), ',');
+            field(row.getScheduleId(), ',');
+            field(row.getScheduleName(), ',');
+            field(row.getStartDate(), ',');
+            field(row.getEndDate(), '\n');
+        }
+
+        private void field(Object value, char separator) throws IOException {
+            if (value != null) {
+                String text = value.toString();
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    writer.write('"');
+                    writer.write(text.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(text);
+                }
+            }
+            writer.write(separator);
+        }
+    }
+
+    private static final class NdJson extends AssignTaskScheduleExportWriter {
+
+        private final JsonGenerator generator;
+        private boolean empty = true;
+
+        private NdJson(Writer writer) throws IOException {
+            super(writer);
+            generator = JSON_FACTORY.createGenerator(writer);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void write(AssignTaskScheduleRow row) throws IOException {
+            generator.writeStartObject();
+            number("id", row.getId());
+            number("playerId", row.getPlayerId());
+            generator.writeStringField("playerFirstName", row.getPlayerFirstName());
+            generator.writeStringField("playerLastName", row.getPlayerLastName());
+            number("taskId", row.getTaskId());
+            generator.writeStringField("taskName", row.getTaskName());
+            number("scheduleId", row.getScheduleId());
+            generator.writeStringField("scheduleName", row.getScheduleName());
+            date("startDate", row.getStartDate());
+            date("endDate", row.getEndDate());
+            generator.writeEndObject();
+            empty = false;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+
+        private void number(String name, Long value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(name);
+            } else {
+                generator.writeNumberField(name, value);
+            }
+        }
+
+        private void date(String name, LocalDate value) throws IOException {
+            generator.writeStringField(name, value != null ? value.toString() : null);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.team.assignTaskSchedule;
+
+import com.team.common.IntervalTree;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval trees over assignment date ranges, one for all assignments and one per player, loaded
+ * once at startup and kept current by AssignTaskScheduleService after each committed write. Callers fall back
+ * to the database until it is ready.
+ */
+@Slf4j
+@Component
+public class AssignTaskScheduleIntervalIndex {
+
+    @Autowired
+    private AssignTaskScheduleRepository assignTaskScheduleRepository;
+
+    @Value("${assign-task-schedule.interval-index.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntervalTree tree = new IntervalTree();
+    private final Map<Long, IntervalTree> playerTrees = new HashMap<>();
+    private final Map<Long, AssignTaskScheduleSpan> spans = new HashMap<>();
+    private final List<AssignTaskScheduleSpan> pendingWhileLoading = new ArrayList<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        List<AssignTaskScheduleSpan> all = assignTaskScheduleRepository.findAllSpans();
+        lock.writeLock().lock();
+        try {
+            all.forEach(this::add);
+            pendingWhileLoading.forEach(this::replace);
+            pendingWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded {} assignment intervals in {} ms", all.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Re-reads every assignment once the index is loaded, for rows written around the service such as by a
+     * bulk data load. Assignments already indexed are replaced rather than added twice.
+     */
+    public void refresh() {
+        if (!enabled || !ready) {
+            return;
+        }
+        List<AssignTaskScheduleSpan> all = assignTaskScheduleRepository.findAllSpans();
+        lock.writeLock().lock();
+        try {
+            all.forEach(this::replace);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(AssignTaskScheduleSpan span) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                replace(span);
+            } else {
+                pendingWhileLoading.add(span);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> findOverlapping(LocalDate windowStart, LocalDate windowEnd) {
+        List<Long> ids = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            tree.forEachOverlapping(windowStart.toEpochDay(), windowEnd.toEpochDay(), ids::add);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    /**
+     * Returns true if the player already has another assignment overlapping [startDate, endDate].
+     * Only positive answers are authoritative; a false result still needs the database check.
+     */
+    public boolean hasConflict(Long playerId, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        if (!ready) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            IntervalTree playerTree = playerTrees.get(playerId);
+            return playerTree != null && playerTree.anyOverlapping(startDate.toEpochDay(), endDate.toEpochDay(),
+                    id -> excludeId == null || id != excludeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(AssignTaskScheduleSpan span) {
+        removeExisting(span.getId());
+        add(span);
+    }
+
+    private void add(AssignTaskScheduleSpan span) {
+        if (span.getStartDate() == null || span.getEndDate() == null || span.getEndDate().isBefore(span.getStartDate())) {
+            return;
+        }
+        tree.insert(span.getId(), span.getStartDate().toEpochDay(), span.getEndDate().toEpochDay());
+        if (span.getPlayerId() != null) {
+            playerTrees.computeIfAbsent(span.getPlayerId(), playerId -> new IntervalTree())
+                    .insert(span.getId(), span.getStartDate().toEpochDay(), span.getEndDate().toEpochDay());
+        }
+        spans.put(span.getId(), span);
+    }
+
+    private void removeExisting(Long id) {
+        AssignTaskScheduleSpan existing = spans.remove(id);
+        if (existing == null) {
+            return;
+        }
+        tree.remove(existing.getId(), existing.getStartDate().toEpochDay());
+        IntervalTree playerTree = existing.getPlayerId() != null ? playerTrees.get(existing.getPlayerId()) : null;
+        if (playerTree != null) {
+            playerTree.remove(existing.getId(), existing.getStartDate().toEpochDay());
+            if (playerTree.size() == 0) {
+                playerTrees.remove(existing.getPlayerId());
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.team.assignTaskSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AssignTaskSchedulePage {
+
+    private List<AssignTaskScheduleEntity> content;
+    private int size;
+    private String previousCursor;
+    private String nextCursor;
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
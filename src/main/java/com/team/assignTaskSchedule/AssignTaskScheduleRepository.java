@@ -1,13 +1,132 @@
 package com.team.assignTaskSchedule;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface AssignTaskScheduleRepository extends JpaRepository<AssignTaskScheduleEntity, Long> {
-    List<AssignTaskScheduleEntity> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Override
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    List<AssignTaskScheduleEntity> findAll();
+
+    @Override
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    Optional<AssignTaskScheduleEntity> findById(Long id);
+
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a"
+            + " where a.startDate <= :windowEnd and a.endDate >= :windowStart"
+            + " order by a.startDate asc, a.id asc")
+    List<AssignTaskScheduleEntity> findOverlapping(@Param("windowStart") LocalDate windowStart,
+                                                   @Param("windowEnd") LocalDate windowEnd);
+
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a where a.id in :ids order by a.startDate asc, a.id asc")
+    List<AssignTaskScheduleEntity> findByIdInOrderByStartDate(@Param("ids") Collection<Long> ids);
+
+    @Query("select case when count(a) > 0 then true else false end from AssignTaskScheduleEntity a"
+            + " where a.player.id = :playerId and a.startDate <= :endDate and a.endDate >= :startDate"
+            + " and a.id <> :excludeId")
+    boolean existsOverlappingForPlayer(@Param("playerId") Long playerId, @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate, @Param("excludeId") Long excludeId);
+
+    @Query("select new com.team.assignTaskSchedule.AssignTaskScheduleSpan(a.id, a.player.id, a.startDate, a.endDate)"
+            + " from AssignTaskScheduleEntity a")
+    List<AssignTaskScheduleSpan> findAllSpans();
+
+    @Query("select p.id from PlayerEntity p where not exists (select a.id from AssignTaskScheduleEntity a"
+            + " where a.player = p and a.startDate <= :windowEnd and a.endDate >= :windowStart) order by p.id")
+    List<Long> findAvailablePlayerIds(@Param("windowStart") LocalDate windowStart,
+                                      @Param("windowEnd") LocalDate windowEnd);
+
+    @Query("select new com.team.assignTaskSchedule.AssignTaskScheduleSpan(a.id, a.player.id, a.startDate, a.endDate)"
+            + " from AssignTaskScheduleEntity a where a.id = :id")
+    Optional<AssignTaskScheduleSpan> findSpanById(@Param("id") Long id);
+
+    @Query("select new com.team.assignTaskSchedule.AssignTaskScheduleSpan(a.id, a.player.id, a.startDate, a.endDate)"
+            + " from AssignTaskScheduleEntity a"
+            + " where a.player.id in :playerIds and a.startDate <= :windowEnd and a.endDate >= :windowStart")
+    List<AssignTaskScheduleSpan> findSpansForPlayers(@Param("playerIds") Collection<Long> playerIds,
+                                                      @Param("windowStart") LocalDate windowStart,
+                                                      @Param("windowEnd") LocalDate windowEnd);
+
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a order by a.startDate asc, a.id asc")
+    List<AssignTaskScheduleEntity> findFirstPage(Pageable pageable);
+
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a"
+            + " where a.startDate > :startDate or (a.startDate = :startDate and a.id > :id)"
+            + " order by a.startDate asc, a.id asc")
+    List<AssignTaskScheduleEntity> findPageAfter(@Param("startDate") LocalDate startDate, @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a"
+            + " where a.startDate < :startDate or (a.startDate = :startDate and a.id < :id) or a.startDate is null"
+            + " order by a.startDate desc, a.id desc")
+    List<AssignTaskScheduleEntity> findPageBefore(@Param("startDate") LocalDate startDate, @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * The page after an undated assignment: the remaining undated ones, then the dated ones.
+     */
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a"
+            + " where a.startDate is not null or a.id > :id"
+            + " order by a.startDate asc, a.id asc")
+    List<AssignTaskScheduleEntity> findPageAfterUndated(@Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(AssignTaskScheduleEntity.DETAILS_GRAPH)
+    @Query("select a from AssignTaskScheduleEntity a"
+            + " where a.startDate is null and a.id < :id"
+            + " order by a.id desc")
+    List<AssignTaskScheduleEntity> findPageBeforeUndated(@Param("id") Long id, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select new com.team.assignTaskSchedule.AssignTaskScheduleRow(a.id, p.id, p.firstName, p.lastName,"
+            + " t.id, t.name, s.id, s.name, a.startDate, a.endDate)"
+            + " from AssignTaskScheduleEntity a left join a.player p left join a.task t left join a.schedule s"
+            + " where a.startDate <= :windowEnd and a.endDate >= :windowStart"
+            + " order by a.startDate asc, a.id asc")
+    Stream<AssignTaskScheduleRow> streamOverlapping(@Param("windowStart") LocalDate windowStart,
+                                                    @Param("windowEnd") LocalDate windowEnd);
+
+    @Query("select new com.team.assignTaskSchedule.AssignTaskScheduleRow(a.id, p.id, p.firstName, p.lastName,"
+            + " t.id, t.name, s.id, s.name, a.startDate, a.endDate)"
+            + " from AssignTaskScheduleEntity a left join a.player p left join a.task t left join a.schedule s"
+            + " where a.id = :id")
+    Optional<AssignTaskScheduleRow> findRowById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query("select new com.team.assignTaskSchedule.AssignTaskScheduleRow(a.id, p.id, p.firstName, p.lastName,"
+            + " t.id, t.name, s.id, s.name, a.startDate, a.endDate)"
+            + " from AssignTaskScheduleEntity a left join a.player p left join a.task t left join a.schedule s"
+            + " where a.startDate <= :windowEnd and a.endDate >= :windowStart"
+            + " and (a.startDate > :startDate or (a.startDate = :startDate and a.id > :id))"
+            + " order by a.startDate asc, a.id asc")
+    List<AssignTaskScheduleRow> findRowsAfter(@Param("windowStart") LocalDate windowStart,
+                                              @Param("windowEnd") LocalDate windowEnd,
+                                              @Param("startDate") LocalDate startDate, @Param("id") Long id,
+                                              Pageable pageable);
 
 }
@@ -0,0 +1,26 @@
+package com.team.assignTaskSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, unmanaged view of an assignment and the names it displays, used where rows are streamed
+ * rather than held in a persistence context.
+ */
+@Data
+@AllArgsConstructor
+public class AssignTaskScheduleRow {
+
+    private Long id;
+    private Long playerId;
+    private String playerFirstName;
+    private String playerLastName;
+    private Long taskId;
+    private String taskName;
+    private Long scheduleId;
+    private String scheduleName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -1,37 +1,544 @@
 package com.team.assignTaskSchedule;
 
+import com.team.common.ChunkedIterable;
+import com.team.common.DataVersions;
+import com.team.common.IntervalTree;
+import com.team.common.OptionView;
+import com.team.common.PartialUpdate;
+import com.team.common.StripedLock;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerRepository;
+import com.team.schedule.ScheduleEntity;
+import com.team.schedule.ScheduleRepository;
+import com.team.task.TaskEntity;
+import com.team.task.TaskRepository;
+import org.apache.commons.lang3.StringUtils;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import javax.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class AssignTaskScheduleService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final LocalDate OPEN_WINDOW_START = LocalDate.of(1, 1, 1);
+    static final LocalDate OPEN_WINDOW_END = LocalDate.of(9999, 12, 31);
+    private static final int ID_BATCH_SIZE = 1000;
+    private static final long NO_ID = -1L;
+    private static final int PLAYER_LOCK_STRIPES = 256;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final int RENDER_CHUNK_SIZE = 500;
+
     @Autowired
     private AssignTaskScheduleRepository assignTaskScheduleRepository;
 
+    @Autowired
+    private AssignTaskScheduleIntervalIndex intervalIndex;
+
+    @Autowired
+    private PlayerAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final StripedLock playerLocks = new StripedLock(PLAYER_LOCK_STRIPES);
+
+    @Transactional(readOnly = true)
     public List<AssignTaskScheduleEntity> getTaskSchedules() {
         return assignTaskScheduleRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public AssignTaskSchedulePage getTaskSchedulePage(String after, String before, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        KeysetCursor afterCursor = KeysetCursor.parse(after);
+        KeysetCursor beforeCursor = KeysetCursor.parse(before);
+
+        List<AssignTaskScheduleEntity> rows;
+        boolean hasPrevious;
+        boolean hasNext;
+        if (beforeCursor != null) {
+            rows = new ArrayList<>(beforeCursor.getStartDate() != null
+                    ? assignTaskScheduleRepository.findPageBefore(beforeCursor.getStartDate(), beforeCursor.getId(), limit)
+                    : assignTaskScheduleRepository.findPageBeforeUndated(beforeCursor.getId(), limit));
+            hasPrevious = rows.size() > pageSize;
+            hasNext = true;
+            if (hasPrevious) {
+                rows.remove(pageSize);
+            }
+            Collections.reverse(rows);
+        } else {
+            if (afterCursor == null) {
+                rows = new ArrayList<>(assignTaskScheduleRepository.findFirstPage(limit));
+            } else if (afterCursor.getStartDate() != null) {
+                rows = new ArrayList<>(assignTaskScheduleRepository.findPageAfter(
+                        afterCursor.getStartDate(), afterCursor.getId(), limit));
+            } else {
+                rows = new ArrayList<>(assignTaskScheduleRepository.findPageAfterUndated(afterCursor.getId(), limit));
+            }
+            hasPrevious = afterCursor != null;
+            hasNext = rows.size() > pageSize;
+            if (hasNext) {
+                rows.remove(pageSize);
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return new AssignTaskSchedulePage(rows, pageSize, null, null);
+        }
+        String previousCursor = hasPrevious ? KeysetCursor.of(rows.get(0)).encode() : null;
+        String nextCursor = hasNext ? KeysetCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        return new AssignTaskSchedulePage(rows, pageSize, previousCursor, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
     public AssignTaskScheduleEntity getById(Long id) {
         return assignTaskScheduleRepository.findById(id).get();
     }
 
+    /**
+     * Saves a new or updated assignment after checking that its player is not already booked on overlapping
+     * dates. Writes for the same player are serialized by a striped lock held until the transaction completes
+     * and by a row lock on the player, which also covers writers in other JVMs.
+     */
     public AssignTaskScheduleEntity create(AssignTaskScheduleEntity assignTaskSchedule) {
-        return assignTaskScheduleRepository.save(assignTaskSchedule);
+        Long playerId = assignTaskSchedule.getPlayer() != null ? assignTaskSchedule.getPlayer().getId() : null;
+        if (playerId == null || assignTaskSchedule.getStartDate() == null || assignTaskSchedule.getEndDate() == null) {
+            return save(assignTaskSchedule);
+        }
+        return withPlayerLock(playerId, () -> {
+            checkConflicts(assignTaskSchedule, playerId);
+            return save(assignTaskSchedule);
+        });
     }
 
+    /**
+     * Creates the assignments in one transaction, so the group costs a single commit. An assignment that
+     * conflicts with an existing or earlier booking in the group writes nothing and gets the exception in its
+     * slot of the result; the slot is null for the others. Any other failure rolls back the whole group.
+     */
+    public List<AssignmentConflictException> createGroup(List<AssignTaskScheduleEntity> group) {
+        List<AssignmentConflictException> conflicts = new ArrayList<>(group.size());
+        for (AssignTaskScheduleEntity assignTaskSchedule : group) {
+            try {
+                create(assignTaskSchedule);
+                conflicts.add(null);
+            } catch (AssignmentConflictException e) {
+                conflicts.add(e);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Writes the non-null associations and dates of changes to the assignment in one statement, provided it is
+     * still at changes.getVersion(); a concurrent edit in between raises StaleUpdateException. When the player
+     * or dates change, the booking is checked for overlaps under the same locks as create.
+     */
+    public void update(Long id, AssignTaskScheduleEntity changes) {
+        Long playerId = changes.getPlayer() != null ? changes.getPlayer().getId() : null;
+        if (playerId == null && changes.getStartDate() == null && changes.getEndDate() == null) {
+            applyUpdate(id, changes, null);
+            return;
+        }
+        AssignTaskScheduleSpan span = new AssignTaskScheduleSpan(id, playerId, changes.getStartDate(), changes.getEndDate());
+        if (playerId == null || span.getStartDate() == null || span.getEndDate() == null) {
+            // Partial change of the booking: fill in the rest from the stored row
+            AssignTaskScheduleSpan current = assignTaskScheduleRepository.findSpanById(id).get();
+            span = new AssignTaskScheduleSpan(id,
+                    playerId != null ? playerId : current.getPlayerId(),
+                    span.getStartDate() != null ? span.getStartDate() : current.getStartDate(),
+                    span.getEndDate() != null ? span.getEndDate() : current.getEndDate());
+        }
+        AssignTaskScheduleSpan booking = span;
+        AssignTaskScheduleEntity probe = new AssignTaskScheduleEntity();
+        probe.setId(id);
+        probe.setStartDate(booking.getStartDate());
+        probe.setEndDate(booking.getEndDate());
+        withPlayerLock(booking.getPlayerId(), () -> {
+            checkConflicts(probe, booking.getPlayerId());
+            applyUpdate(id, changes, booking);
+            return null;
+        });
+    }
+
+    /**
+     * Returns assignments whose [startDate, endDate] overlaps the search window. A blank bound leaves that
+     * side of the window open; when both are blank only the first MAX_PAGE_SIZE assignments are returned,
+     * since the whole table is what the keyset-paged list is for.
+     */
+    @Transactional(readOnly = true)
     public List<AssignTaskScheduleEntity> findByDateBetween(SearchDto searchDto) {
-        LocalDate startDate = LocalDate.parse(searchDto.getStartDateStr());
-        LocalDate endDate =LocalDate.parse(searchDto.getEndDateStr());
-        if (startDate != null && endDate != null){
-            return assignTaskScheduleRepository.findByStartDateBetween(startDate, endDate);
-        }else{
-            return assignTaskScheduleRepository.findAll();
+        LocalDate startDate = searchDto.getStartDate();
+        LocalDate endDate = searchDto.getEndDate();
+        if (startDate == null && endDate == null) {
+            return assignTaskScheduleRepository.findFirstPage(PageRequest.of(0, MAX_PAGE_SIZE));
+        }
+        LocalDate windowStart = startDate != null ? startDate : OPEN_WINDOW_START;
+        LocalDate windowEnd = endDate != null ? endDate : OPEN_WINDOW_END;
+        if (windowStart.isAfter(windowEnd)) {
+            return Collections.emptyList();
+        }
+        if (!intervalIndex.isReady()) {
+            return assignTaskScheduleRepository.findOverlapping(windowStart, windowEnd);
+        }
+        List<Long> ids = intervalIndex.findOverlapping(windowStart, windowEnd);
+        List<AssignTaskScheduleEntity> result = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size()));
+            result.addAll(assignTaskScheduleRepository.findByIdInOrderByStartDate(batch));
+        }
+        return result;
+    }
+
+    /**
+     * Streams assignments overlapping the window to the consumer as unmanaged rows, so memory stays constant
+     * however many rows match. A null bound leaves that side of the window open.
+     */
+    @Transactional(readOnly = true)
+    public void exportOverlapping(LocalDate startDate, LocalDate endDate, Consumer<AssignTaskScheduleRow> consumer) {
+        try (Stream<AssignTaskScheduleRow> rows = assignTaskScheduleRepository.streamOverlapping(
+                startDate != null ? startDate : OPEN_WINDOW_START, endDate != null ? endDate : OPEN_WINDOW_END)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    /**
+     * Players with no assignment on any day of [from, to], up to limit of them in id order after the given
+     * player id. Answered from the availability index once it is loaded; only the returned page's names are
+     * read from the database.
+     */
+    @Transactional(readOnly = true)
+    public AvailablePlayersView findAvailablePlayers(LocalDate from, LocalDate to, Long after, int limit) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from, to);
+        }
+        // Player ids are indexed as ints, so a cursor outside them is not one this method returned
+        if (after != null && (after < 0 || after >= Integer.MAX_VALUE)) {
+            throw new InvalidCursorException(String.valueOf(after));
+        }
+        RoaringBitmap available;
+        long totalPlayers;
+        if (availabilityIndex.isReady()) {
+            available = availabilityIndex.findAvailable(from, to);
+            totalPlayers = availabilityIndex.countPlayers();
+        } else {
+            available = new RoaringBitmap();
+            for (Long id : assignTaskScheduleRepository.findAvailablePlayerIds(from, to)) {
+                available.add(Math.toIntExact(id));
+            }
+            totalPlayers = playerRepository.count();
+        }
+
+        int pageSize = Math.max(0, Math.min(limit, OptionView.FORM_LIMIT));
+        List<Long> ids = new ArrayList<>(pageSize);
+        PeekableIntIterator iterator = available.getIntIterator();
+        if (after != null) {
+            iterator.advanceIfNeeded(Math.toIntExact(after + 1));
+        }
+        while (iterator.hasNext() && ids.size() < pageSize) {
+            ids.add((long) iterator.next());
+        }
+
+        AvailablePlayersView view = new AvailablePlayersView();
+        view.setFrom(from);
+        view.setTo(to);
+        view.setTotalPlayers(totalPlayers);
+        view.setAvailable(available.getLongCardinality());
+        if (!ids.isEmpty()) {
+            view.setPlayers(playerRepository.findOptionsByIds(ids));
+        }
+        view.setNext(iterator.hasNext() && !ids.isEmpty() ? ids.get(ids.size() - 1) : null);
+        return view;
+    }
+
+    @Transactional(readOnly = true)
+    public AssignTaskScheduleRow getRowById(Long id) {
+        return assignTaskScheduleRepository.findRowById(id).get();
+    }
+
+    /**
+     * Returns up to limit assignments overlapping the window as unmanaged rows, starting after the cursor in
+     * (startDate, id) order, or from the first one when the cursor is null or undated, since undated
+     * assignments overlap no window. A null bound leaves that side of the window open.
+     */
+    @Transactional(readOnly = true)
+    public List<AssignTaskScheduleRow> getRowsAfter(LocalDate startDate, LocalDate endDate, KeysetCursor after,
+                                                    int limit) {
+        boolean fromFirst = after == null || after.getStartDate() == null;
+        return assignTaskScheduleRepository.findRowsAfter(
+                startDate != null ? startDate : OPEN_WINDOW_START, endDate != null ? endDate : OPEN_WINDOW_END,
+                fromFirst ? OPEN_WINDOW_START : after.getStartDate(), fromFirst ? NO_ID : after.getId(),
+                PageRequest.of(0, limit));
+    }
+
+    /**
+     * Returns assignments overlapping the window as a lazily fetched iterable of unmanaged rows, read in keyset
+     * chunks as the caller iterates. beforeChunk runs ahead of each fetch so a renderer can flush what it has
+     * written. A null bound leaves that side of the window open.
+     */
+    public Iterable<AssignTaskScheduleRow> iterateOverlapping(LocalDate startDate, LocalDate endDate,
+                                                              Runnable beforeChunk) {
+        LocalDate windowStart = startDate != null ? startDate : OPEN_WINDOW_START;
+        LocalDate windowEnd = endDate != null ? endDate : OPEN_WINDOW_END;
+        PageRequest chunk = PageRequest.of(0, RENDER_CHUNK_SIZE);
+        return new ChunkedIterable<>(RENDER_CHUNK_SIZE, last -> last == null
+                ? assignTaskScheduleRepository.findRowsAfter(windowStart, windowEnd, OPEN_WINDOW_START, NO_ID, chunk)
+                : assignTaskScheduleRepository.findRowsAfter(windowStart, windowEnd, last.getStartDate(), last.getId(), chunk),
+                beforeChunk);
+    }
+
+    /**
+     * Creates one assignment per row in a single transaction. Rows referencing unknown players, tasks or
+     * schedules, or overlapping an existing or earlier booking of the same player, are rejected individually.
+     * Players are row-locked in id order so concurrent single and bulk writers serialize per player.
+     */
+    public List<BulkAssignResult> bulkCreate(List<BulkAssignRow> rows) {
+        List<BulkAssignResult> results = new ArrayList<>(rows.size());
+        if (rows.isEmpty()) {
+            return results;
+        }
+        Map<Long, ScheduleEntity> schedules = new HashMap<>();
+        scheduleRepository.findAllById(distinctIds(rows, BulkAssignRow::getScheduleId))
+                .forEach(schedule -> schedules.put(schedule.getId(), schedule));
+        Map<Long, TaskEntity> tasks = new HashMap<>();
+        taskRepository.findAllById(distinctIds(rows, BulkAssignRow::getTaskId))
+                .forEach(task -> tasks.put(task.getId(), task));
+        LocalDate windowStart = schedules.values().stream().map(ScheduleEntity::getStartDate)
+                .filter(Objects::nonNull).min(Comparator.naturalOrder()).orElse(null);
+        LocalDate windowEnd = schedules.values().stream().map(ScheduleEntity::getEndDate)
+                .filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null);
+
+        Map<Long, PlayerEntity> players = new HashMap<>();
+        Map<Long, IntervalTree> bookings = new HashMap<>();
+        List<Long> playerIds = new ArrayList<>(distinctIds(rows, BulkAssignRow::getPlayerId));
+        for (int from = 0; from < playerIds.size(); from += ID_BATCH_SIZE) {
+            List<Long> batch = playerIds.subList(from, Math.min(from + ID_BATCH_SIZE, playerIds.size()));
+            playerRepository.findAllByIdForUpdate(batch).forEach(player -> players.put(player.getId(), player));
+            if (windowStart != null && windowEnd != null) {
+                for (AssignTaskScheduleSpan span : assignTaskScheduleRepository.findSpansForPlayers(batch, windowStart, windowEnd)) {
+                    bookings.computeIfAbsent(span.getPlayerId(), playerId -> new IntervalTree())
+                            .insert(span.getId(), span.getStartDate().toEpochDay(), span.getEndDate().toEpochDay());
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AssignTaskScheduleSpan> created = new ArrayList<>();
+        for (BulkAssignRow row : rows) {
+            PlayerEntity player = players.get(row.getPlayerId());
+            TaskEntity task = tasks.get(row.getTaskId());
+            ScheduleEntity schedule = schedules.get(row.getScheduleId());
+            if (player == null) {
+                results.add(BulkAssignResult.rejected(row, "Unknown player " + row.getPlayerId()));
+                continue;
+            }
+            if (task == null) {
+                results.add(BulkAssignResult.rejected(row, "Unknown task " + row.getTaskId()));
+                continue;
+            }
+            if (schedule == null || schedule.getStartDate() == null || schedule.getEndDate() == null) {
+                results.add(BulkAssignResult.rejected(row, "Unknown or undated schedule " + row.getScheduleId()));
+                continue;
+            }
+            long start = schedule.getStartDate().toEpochDay();
+            long end = schedule.getEndDate().toEpochDay();
+            IntervalTree booked = bookings.computeIfAbsent(player.getId(), playerId -> new IntervalTree());
+            if (booked.anyOverlapping(start, end, id -> true)) {
+                results.add(BulkAssignResult.rejected(row, AssignmentConflictException.message(
+                        player.getId(), schedule.getStartDate(), schedule.getEndDate())));
+                continue;
+            }
+
+            AssignTaskScheduleEntity assignTaskSchedule = new AssignTaskScheduleEntity();
+            assignTaskSchedule.setPlayer(player);
+            assignTaskSchedule.setTask(task);
+            assignTaskSchedule.setSchedule(schedule);
+            assignTaskSchedule.setStartDate(schedule.getStartDate());
+            assignTaskSchedule.setEndDate(schedule.getEndDate());
+            assignTaskSchedule.setCreatedOn(now);
+            assignTaskScheduleRepository.save(assignTaskSchedule);
+            booked.insert(assignTaskSchedule.getId(), start, end);
+            created.add(AssignTaskScheduleSpan.of(assignTaskSchedule));
+            results.add(BulkAssignResult.created(row, assignTaskSchedule.getId()));
+            if (created.size() % JDBC_BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        afterCommit(() -> created.forEach(this::indexed));
+        if (!created.isEmpty()) {
+            dataVersions.changed(DataVersions.Type.ASSIGNMENTS);
+        }
+        return results;
+    }
+
+    /**
+     * Parses "playerId,taskId,scheduleId" lines, skipping blank lines and a header, and bulk-creates them.
+     * Unparseable lines are reported as rejected rows numbered by their line in the file.
+     */
+    public List<BulkAssignResult> bulkCreateCsv(Reader csv) throws IOException {
+        List<BulkAssignRow> rows = new ArrayList<>();
+        List<BulkAssignResult> rejected = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(csv);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (StringUtils.isBlank(line) || (lineNumber == 1 && !Character.isDigit(line.trim().charAt(0)))) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            try {
+                if (fields.length != 3) {
+                    throw new NumberFormatException("expected playerId,taskId,scheduleId");
+                }
+                rows.add(new BulkAssignRow(lineNumber, Long.valueOf(fields[0].trim()),
+                        Long.valueOf(fields[1].trim()), Long.valueOf(fields[2].trim())));
+            } catch (NumberFormatException e) {
+                rejected.add(BulkAssignResult.rejected(new BulkAssignRow(lineNumber, null, null, null),
+                        "Invalid line: " + e.getMessage()));
+            }
+        }
+        List<BulkAssignResult> results = bulkCreate(rows);
+        if (!rejected.isEmpty()) {
+            results.addAll(rejected);
+            results.sort(Comparator.comparingInt(BulkAssignResult::getRow));
+        }
+        return results;
+    }
+
+    private static Set<Long> distinctIds(List<BulkAssignRow> rows, Function<BulkAssignRow, Long> id) {
+        Set<Long> ids = new TreeSet<>();
+        for (BulkAssignRow row : rows) {
+            Long value = id.apply(row);
+            if (value != null) {
+                ids.add(value);
+            }
+        }
+        return ids;
+    }
+
+    private void checkConflicts(AssignTaskScheduleEntity assignTaskSchedule, Long playerId) {
+        LocalDate startDate = assignTaskSchedule.getStartDate();
+        LocalDate endDate = assignTaskSchedule.getEndDate();
+        Long excludeId = assignTaskSchedule.getId();
+        if (intervalIndex.hasConflict(playerId, startDate, endDate, excludeId)) {
+            throw new AssignmentConflictException(playerId, startDate, endDate);
+        }
+        playerRepository.findByIdForUpdate(playerId);
+        if (assignTaskScheduleRepository.existsOverlappingForPlayer(playerId, startDate, endDate,
+                excludeId != null ? excludeId : NO_ID)) {
+            throw new AssignmentConflictException(playerId, startDate, endDate);
+        }
+    }
+
+    /**
+     * Runs the action holding the player's stripe lock, which is released when the surrounding transaction
+     * completes so the conflict check and the write commit atomically with respect to other writers.
+     */
+    private <T> T withPlayerLock(Long playerId, Supplier<T> action) {
+        Lock lock = playerLocks.get(playerId);
+        lock.lock();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+            return action.get();
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyUpdate(Long id, AssignTaskScheduleEntity changes, AssignTaskScheduleSpan booking) {
+        PartialUpdate.of(entityManager, AssignTaskScheduleEntity.class)
+                .setIfPresent("player", changes.getPlayer() != null && changes.getPlayer().getId() != null
+                        ? entityManager.getReference(PlayerEntity.class, changes.getPlayer().getId()) : null)
+                .setIfPresent("task", changes.getTask() != null && changes.getTask().getId() != null
+                        ? entityManager.getReference(TaskEntity.class, changes.getTask().getId()) : null)
+                .setIfPresent("schedule", changes.getSchedule() != null && changes.getSchedule().getId() != null
+                        ? entityManager.getReference(ScheduleEntity.class, changes.getSchedule().getId()) : null)
+                .setIfPresent("startDate", changes.getStartDate())
+                .setIfPresent("endDate", changes.getEndDate())
+                .set("updatedOn", changes.getUpdatedOn())
+                .execute(id, changes.getVersion());
+        if (booking != null) {
+            afterCommit(() -> indexed(booking));
+        }
+        dataVersions.changed(DataVersions.Type.ASSIGNMENTS);
+    }
+
+    private AssignTaskScheduleEntity save(AssignTaskScheduleEntity assignTaskSchedule) {
+        AssignTaskScheduleEntity saved = assignTaskScheduleRepository.save(assignTaskSchedule);
+        AssignTaskScheduleSpan span = AssignTaskScheduleSpan.of(saved);
+        afterCommit(() -> indexed(span));
+        dataVersions.changed(DataVersions.Type.ASSIGNMENTS);
+        return saved;
+    }
+
+    private void indexed(AssignTaskScheduleSpan span) {
+        intervalIndex.put(span);
+        availabilityIndex.put(span);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,22 @@
+package com.team.assignTaskSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class AssignTaskScheduleSpan {
+
+    private Long id;
+    private Long playerId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    public static AssignTaskScheduleSpan of(AssignTaskScheduleEntity assignTaskSchedule) {
+        Long playerId = assignTaskSchedule.getPlayer() != null ? assignTaskSchedule.getPlayer().getId() : null;
+        return new AssignTaskScheduleSpan(assignTaskSchedule.getId(), playerId,
+                assignTaskSchedule.getStartDate(), assignTaskSchedule.getEndDate());
+    }
+}
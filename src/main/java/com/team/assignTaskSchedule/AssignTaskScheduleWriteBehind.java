@@ -0,0 +1,224 @@
+package com.team.assignTaskSchedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional group commit for single assignment creates. Callers queue their assignment and wait; one writer
+ * thread drains the queue and creates up to max-batch assignments per transaction, then completes each
+ * caller's future. A caller is only answered once its row is committed, so no acknowledged write is lost.
+ * When the queue is full callers wait up to offer-timeout before being turned away with 503, and a caller
+ * whose assignment is not committed within write-timeout gets 503 too, though the row may still be written.
+ */
+@Slf4j
+@Component
+public class AssignTaskScheduleWriteBehind {
+
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_MILLIS = 30_000;
+
+    @Autowired
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @Value("${assign-task-schedule.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${assign-task-schedule.write-behind.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${assign-task-schedule.write-behind.max-batch:100}")
+    private int maxBatch;
+
+    @Value("${assign-task-schedule.write-behind.offer-timeout-ms:2000}")
+    private long offerTimeoutMillis;
+
+    @Value("${assign-task-schedule.write-behind.write-timeout-ms:10000}")
+    private long writeTimeoutMillis;
+
+    /** Held shared while queueing and exclusively by stop(), so nothing is queued once stop() drains. */
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private BlockingQueue<Pending> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drain, "assignment-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Assignment write-behind started with queue capacity {} and batches of up to {}", queueCapacity, maxBatch);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the assignment and returns a future completed with the saved assignment once it is committed,
+     * or with the AssignmentConflictException or other failure that kept it from being written. Refused once
+     * shutdown has begun or if the writer thread has died.
+     */
+    public CompletableFuture<AssignTaskScheduleEntity> submit(AssignTaskScheduleEntity assignTaskSchedule) {
+        Pending pending = new Pending(assignTaskSchedule);
+        boolean queued;
+        shutdownLock.readLock().lock();
+        try {
+            if (!running || !writer.isAlive()) {
+                throw new WriteBehindRejectedException("Assignment writer is not running");
+            }
+            queued = queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteBehindRejectedException("Interrupted while waiting for the assignment queue");
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+        if (!queued) {
+            throw new WriteBehindRejectedException("Assignment queue is full; try again shortly");
+        }
+        return pending.future;
+    }
+
+    /**
+     * Submits the assignment and waits up to write-timeout for it to be committed, rethrowing whatever kept it
+     * from being written.
+     */
+    public AssignTaskScheduleEntity create(AssignTaskScheduleEntity assignTaskSchedule) {
+        try {
+            return submit(assignTaskSchedule).get(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteBehindRejectedException("Interrupted while waiting for the assignment to be written");
+        } catch (TimeoutException e) {
+            throw new WriteBehindRejectedException("Assignment was not written within " + writeTimeoutMillis
+                    + " ms; check the list before retrying");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Stops taking new assignments and lets the writer commit everything already queued before the context
+     * closes.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        shutdownLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
+        writer.join(SHUTDOWN_MILLIS);
+        List<Pending> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.future.completeExceptionally(
+                new WriteBehindRejectedException("Assignment writer stopped before this assignment was written")));
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            Pending first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatch - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Commits the batch as one group, in player id order as bulkCreate locks players. If the group fails as a
+     * whole, each assignment is retried in a group of its own so one bad row cannot fail its neighbours; the
+     * id and version the rolled back attempt assigned are cleared first so the retry inserts afresh.
+     */
+    void write(List<Pending> batch) {
+        batch.sort(Comparator.comparing(Pending::playerId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        try {
+            complete(batch);
+        } catch (RuntimeException groupFailure) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(groupFailure);
+                return;
+            }
+            log.warn("Group of {} assignments failed, retrying one by one", batch.size(), groupFailure);
+            for (Pending pending : batch) {
+                pending.reset();
+                try {
+                    complete(Collections.singletonList(pending));
+                } catch (RuntimeException e) {
+                    pending.future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void complete(List<Pending> group) {
+        List<AssignTaskScheduleEntity> assignTaskSchedules = new ArrayList<>(group.size());
+        group.forEach(pending -> assignTaskSchedules.add(pending.assignTaskSchedule));
+        List<AssignmentConflictException> conflicts = assignTaskScheduleService.createGroup(assignTaskSchedules);
+        for (int i = 0; i < group.size(); i++) {
+            Pending pending = group.get(i);
+            if (conflicts.get(i) != null) {
+                pending.future.completeExceptionally(conflicts.get(i));
+            } else {
+                pending.future.complete(pending.assignTaskSchedule);
+            }
+        }
+    }
+
+    static final class Pending {
+
+        private final AssignTaskScheduleEntity assignTaskSchedule;
+        private final CompletableFuture<AssignTaskScheduleEntity> future = new CompletableFuture<>();
+
+        Pending(AssignTaskScheduleEntity assignTaskSchedule) {
+            this.assignTaskSchedule = assignTaskSchedule;
+        }
+
+        private void reset() {
+            assignTaskSchedule.setId(null);
+            assignTaskSchedule.setVersion(null);
+        }
+
+        private Long playerId() {
+            return assignTaskSchedule.getPlayer() != null ? assignTaskSchedule.getPlayer().getId() : null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.team.assignTaskSchedule;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.LocalDate;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class AssignmentConflictException extends RuntimeException {
+
+    public AssignmentConflictException(Long playerId, LocalDate startDate, LocalDate endDate) {
+        super(message(playerId, startDate, endDate));
+    }
+
+    public static String message(Long playerId, LocalDate startDate, LocalDate endDate) {
+        return "Player " + playerId + " is already assigned between " + startDate + " and " + endDate;
+    }
+}
@@ -0,0 +1,19 @@
+package com.team.assignTaskSchedule;
+
+import com.team.common.OptionView;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class AvailablePlayersView {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long totalPlayers;
+    private long available;
+    private List<OptionView> players = new ArrayList<>();
+    private Long next;
+}
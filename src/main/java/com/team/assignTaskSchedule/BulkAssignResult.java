@@ -0,0 +1,32 @@
+package com.team.assignTaskSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkAssignResult {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    private int row;
+    private Long playerId;
+    private Long taskId;
+    private Long scheduleId;
+    private Status status;
+    private Long assignmentId;
+    private String message;
+
+    public static BulkAssignResult created(BulkAssignRow row, Long assignmentId) {
+        return new BulkAssignResult(row.getRow(), row.getPlayerId(), row.getTaskId(), row.getScheduleId(),
+                Status.CREATED, assignmentId, null);
+    }
+
+    public static BulkAssignResult rejected(BulkAssignRow row, String message) {
+        return new BulkAssignResult(row.getRow(), row.getPlayerId(), row.getTaskId(), row.getScheduleId(),
+                Status.REJECTED, null, message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.team.assignTaskSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkAssignRow {
+
+    private int row;
+    private Long playerId;
+    private Long taskId;
+    private Long scheduleId;
+}
@@ -0,0 +1,12 @@
+package com.team.assignTaskSchedule;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String value) {
+        super("Invalid page cursor: " + value);
+    }
+}
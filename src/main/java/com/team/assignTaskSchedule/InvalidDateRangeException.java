@@ -0,0 +1,14 @@
+package com.team.assignTaskSchedule;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.LocalDate;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(LocalDate from, LocalDate to) {
+        super("from " + from + " is after to " + to);
+    }
+}
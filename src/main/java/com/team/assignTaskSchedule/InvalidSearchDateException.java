@@ -0,0 +1,12 @@
+package com.team.assignTaskSchedule;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchDateException extends IllegalArgumentException {
+
+    public InvalidSearchDateException(String value) {
+        super("Search date '" + value + "' is not an ISO date (yyyy-MM-dd)");
+    }
+}
@@ -0,0 +1,54 @@
+package com.team.assignTaskSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in the (startDate, id) ordering of assignments, encoded in links as "yyyy-MM-dd:id", or ":id" for an
+ * assignment without a start date. Undated assignments sort before every dated one, as H2 orders nulls low.
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private LocalDate startDate;
+    private Long id;
+
+    public static KeysetCursor of(AssignTaskScheduleEntity assignTaskSchedule) {
+        return new KeysetCursor(assignTaskSchedule.getStartDate(), assignTaskSchedule.getId());
+    }
+
+    public static KeysetCursor of(AssignTaskScheduleRow row) {
+        return new KeysetCursor(row.getStartDate(), row.getId());
+    }
+
+    /**
+     * Returns the cursor encoded in value, or null when it is blank (first page).
+     *
+     * @throws InvalidCursorException if value is not "yyyy-MM-dd:id" or ":id", as from a hand-edited link
+     */
+    public static KeysetCursor parse(String value) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        String[] parts = value.split(SEPARATOR, -1);
+        if (parts.length != 2) {
+            throw new InvalidCursorException(value);
+        }
+        try {
+            return new KeysetCursor(parts[0].isEmpty() ? null : LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode() {
+        return (startDate != null ? startDate.toString() : "") + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,31 @@
+package com.team.assignTaskSchedule;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/players")
+public class PlayerAvailabilityController {
+
+    @Autowired
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    /**
+     * Players free on every day from from to to, both inclusive. Pass the returned next as after for the
+     * following page.
+     */
+    @GetMapping("/available")
+    public AvailablePlayersView getAvailablePlayers(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        return assignTaskScheduleService.findAvailablePlayers(from, to, after, limit);
+    }
+}
@@ -0,0 +1,217 @@
+package com.team.assignTaskSchedule;
+
+import com.team.player.PlayerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmaps of booked player ids, one per epoch day that has any booking, so the players free for a
+ * whole window are every player minus the union of the window's days. Loaded at startup and kept current by
+ * AssignTaskScheduleService after each committed write, like AssignTaskScheduleIntervalIndex. Clearing an old
+ * booking's days relies on the service never letting one player's assignments overlap. The set of all players
+ * is loaded with the bookings; PlayerService adds each created player's bit and reloads the set after an
+ * import. Player edits leave the ids alone and players are never deleted, so nothing else changes it.
+ */
+@Slf4j
+@Component
+public class PlayerAvailabilityIndex {
+
+    @Autowired
+    private AssignTaskScheduleRepository assignTaskScheduleRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Value("${assign-task-schedule.availability-index.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Integer, RoaringBitmap> bookedByDay = new TreeMap<>();
+    private final Map<Long, AssignTaskScheduleSpan> spans = new HashMap<>();
+    private final List<AssignTaskScheduleSpan> pendingWhileLoading = new ArrayList<>();
+    private final RoaringBitmap players = new RoaringBitmap();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        List<AssignTaskScheduleSpan> all = assignTaskScheduleRepository.findAllSpans();
+        List<Long> playerIds = playerRepository.findAllIds();
+        lock.writeLock().lock();
+        try {
+            addPlayers(playerIds);
+            all.forEach(this::add);
+            pendingWhileLoading.forEach(this::replace);
+            pendingWhileLoading.clear();
+            bookedByDay.values().forEach(RoaringBitmap::runOptimize);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed availability for {} assignments over {} days in {} ms", all.size(), bookedByDay.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Re-reads every assignment and player once the index is loaded, for rows written around the service such
+     * as by a bulk data load.
+     */
+    public void refresh() {
+        if (!enabled || !ready) {
+            return;
+        }
+        List<AssignTaskScheduleSpan> all = assignTaskScheduleRepository.findAllSpans();
+        List<Long> playerIds = playerRepository.findAllIds();
+        lock.writeLock().lock();
+        try {
+            addPlayers(playerIds);
+            all.forEach(this::replace);
+            bookedByDay.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(AssignTaskScheduleSpan span) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                replace(span);
+            } else {
+                pendingWhileLoading.add(span);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a committed player. Called before the index has loaded, the id is kept alongside the loaded ones.
+     */
+    public void putPlayer(Long playerId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            players.add(Math.toIntExact(playerId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-reads the player ids, for players inserted around PlayerService.create such as by a CSV import.
+     */
+    public void refreshPlayers() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> playerIds = playerRepository.findAllIds();
+        lock.writeLock().lock();
+        try {
+            addPlayers(playerIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the players with no assignment on any day of [from, to]. The result is a new bitmap the caller
+     * may keep or change.
+     */
+    public RoaringBitmap findAvailable(LocalDate from, LocalDate to) {
+        if (!ready) {
+            throw new IllegalStateException("The availability index is still loading");
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap booked = FastAggregation.or(
+                    bookedByDay.subMap(epochDay(from), true, epochDay(to), true).values().iterator());
+            return RoaringBitmap.andNot(players, booked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countPlayers() {
+        lock.readLock().lock();
+        try {
+            return players.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds rather than replaces, so a player put while the ids were being read is kept.
+     */
+    private void addPlayers(List<Long> playerIds) {
+        playerIds.forEach(id -> players.add(Math.toIntExact(id)));
+        players.runOptimize();
+    }
+
+    private void replace(AssignTaskScheduleSpan span) {
+        removeExisting(span.getId());
+        add(span);
+    }
+
+    private void add(AssignTaskScheduleSpan span) {
+        if (span.getPlayerId() == null || span.getStartDate() == null || span.getEndDate() == null
+                || span.getEndDate().isBefore(span.getStartDate())) {
+            return;
+        }
+        int playerId = Math.toIntExact(span.getPlayerId());
+        for (int day = epochDay(span.getStartDate()); day <= epochDay(span.getEndDate()); day++) {
+            bookedByDay.computeIfAbsent(day, key -> new RoaringBitmap()).add(playerId);
+        }
+        spans.put(span.getId(), span);
+    }
+
+    private void removeExisting(Long id) {
+        AssignTaskScheduleSpan existing = spans.remove(id);
+        if (existing == null) {
+            return;
+        }
+        int playerId = Math.toIntExact(existing.getPlayerId());
+        for (int day = epochDay(existing.getStartDate()); day <= epochDay(existing.getEndDate()); day++) {
+            RoaringBitmap booked = bookedByDay.get(day);
+            if (booked != null) {
+                booked.remove(playerId);
+                if (booked.isEmpty()) {
+                    bookedByDay.remove(day);
+                }
+            }
+        }
+    }
+
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+}
@@ -1,9 +1,49 @@
 package com.team.assignTaskSchedule;
 
 import lombok.Data;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 @Data
 public class SearchDto {
     String startDateStr;
     String endDateStr;
+
+    /**
+     * Returns the parsed start of the window, or null when the field is blank (open-ended).
+     *
+     * @throws InvalidSearchDateException if the field is not an ISO date
+     */
+    public LocalDate getStartDate() {
+        return parse(startDateStr);
+    }
+
+    /**
+     * Returns the parsed end of the window, or null when the field is blank (open-ended).
+     *
+     * @throws InvalidSearchDateException if the field is not an ISO date
+     */
+    public LocalDate getEndDate() {
+        return parse(endDateStr);
+    }
+
+    /**
+     * Whether both bounds are blank, i.e. the search would match every assignment.
+     */
+    public boolean isBlank() {
+        return StringUtils.isBlank(startDateStr) && StringUtils.isBlank(endDateStr);
+    }
+
+    private static LocalDate parse(String value) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidSearchDateException(value);
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.team.assignTaskSchedule;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class WriteBehindRejectedException extends RuntimeException {
+
+    public WriteBehindRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package com.team.common;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.Collection;
+
+/**
+ * Bounded Caffeine caches for the player, task and schedule options that every assignment form loads.
+ * Entries are weighed by the number of elements they hold, so team.cache.spec's maximumWeight bounds the
+ * cached rows rather than the number of keys. Evictions are deferred until the surrounding transaction
+ * commits so a reader can never re-cache the pre-commit state.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PLAYERS = "players";
+    public static final String TASKS = "tasks";
+    public static final String SCHEDULES = "schedules";
+
+    @Bean
+    public CaffeineCacheManager caffeineCacheManager(@Value("${team.cache.spec}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PLAYERS, TASKS, SCHEDULES);
+        cacheManager.setCaffeine(Caffeine.from(spec).weigher(CacheConfig::weigh));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    static int weigh(Object key, Object value) {
+        return value instanceof Collection ? Math.max(1, ((Collection<?>) value).size()) : 1;
+    }
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(CaffeineCacheManager caffeineCacheManager) {
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,64 @@
+package com.team.common;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterable that fetches its rows lazily one chunk at a time, so only a single chunk is ever held in memory.
+ * The fetch function receives the last row of the previous chunk (null for the first) and is expected to
+ * return the next rows in keyset order; a chunk shorter than chunkSize ends the iteration.
+ *
+ * @param <T> the row type
+ */
+public class ChunkedIterable<T> implements Iterable<T> {
+
+    private final int chunkSize;
+    private final Function<T, List<T>> fetchAfter;
+    private final Runnable beforeFetch;
+
+    /**
+     * @param beforeFetch runs before every fetch, e.g. to flush what has been rendered so far
+     */
+    public ChunkedIterable(int chunkSize, Function<T, List<T>> fetchAfter, Runnable beforeFetch) {
+        this.chunkSize = chunkSize;
+        this.fetchAfter = fetchAfter;
+        this.beforeFetch = beforeFetch;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private List<T> chunk = Collections.emptyList();
+            private int position;
+            private T last;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (position < chunk.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                beforeFetch.run();
+                chunk = fetchAfter.apply(last);
+                position = 0;
+                exhausted = chunk.size() < chunkSize;
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = chunk.get(position++);
+                return last;
+            }
+        };
+    }
+}
@@ -0,0 +1,191 @@
+package com.team.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Streams a CSV file into a table: records are read in fixed-size chunks, parsed and validated in parallel,
+ * and each chunk's valid rows are inserted with batched JDBC statements in their own transaction. Only one
+ * chunk is held in memory, so files larger than the heap can be imported. A double-quoted field may span
+ * lines; a quote left open at the end of the file rejects that last record.
+ *
+ * @param <T> the parsed row type
+ */
+@Slf4j
+public class CsvImporter<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 5_000;
+    public static final int JDBC_BATCH_SIZE = 500;
+    public static final int MAX_REPORTED_REJECTIONS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String insertSql;
+    private final Function<String[], T> parser;
+    private final ParameterizedPreparedStatementSetter<T> setter;
+    private final int chunkSize;
+
+    /**
+     * @param parser turns the fields of one record into a row, throwing IllegalArgumentException with the
+     *               rejection reason when the record is invalid
+     */
+    public CsvImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String insertSql,
+                       Function<String[], T> parser, ParameterizedPreparedStatementSetter<T> setter) {
+        this(jdbcTemplate, transactionTemplate, insertSql, parser, setter, DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvImporter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String insertSql,
+                       Function<String[], T> parser, ParameterizedPreparedStatementSetter<T> setter, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.insertSql = insertSql;
+        this.parser = parser;
+        this.setter = setter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports every record after the header. Chunks committed before a failure stay committed.
+     */
+    public ImportReport importCsv(Reader csv) throws IOException {
+        ImportReport report = new ImportReport();
+        LineNumberReader reader = new LineNumberReader(csv);
+        if (readRecord(reader) == null) {
+            return report;
+        }
+        List<String> records = new ArrayList<>(chunkSize);
+        List<Long> lineNumbers = new ArrayList<>(chunkSize);
+        long linesBefore = reader.getLineNumber();
+        String record;
+        while ((record = readRecord(reader)) != null) {
+            records.add(record);
+            lineNumbers.add(linesBefore + 1);
+            linesBefore = reader.getLineNumber();
+            if (records.size() == chunkSize) {
+                importChunk(records, lineNumbers, report);
+                records.clear();
+                lineNumbers.clear();
+            }
+        }
+        if (!records.isEmpty()) {
+            importChunk(records, lineNumbers, report);
+        }
+        report.setLinesRead(reader.getLineNumber() - 1);
+        log.info("CSV import finished: {} lines read, {} imported, {} rejected",
+                report.getLinesRead(), report.getImported(), report.getRejected());
+        return report;
+    }
+
+    /**
+     * Reads one record: a line, joined with the lines that follow while a quoted field is still open.
+     * Returns null at the end of the input.
+     */
+    private static String readRecord(LineNumberReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        String record = line;
+        while (StringUtils.countMatches(record, '"') % 2 != 0 && (line = reader.readLine()) != null) {
+            record = record + "\n" + line;
+        }
+        return record;
+    }
+
+    private void importChunk(List<String> records, List<Long> lineNumbers, ImportReport report) {
+        Object[] parsed = new Object[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> parsed[i] = parse(records.get(i)));
+
+        List<T> valid = new ArrayList<>(records.size());
+        for (int i = 0; i < parsed.length; i++) {
+            if (parsed[i] instanceof Rejection) {
+                reject(report, lineNumbers.get(i), ((Rejection) parsed[i]).reason);
+            } else if (parsed[i] != null) {
+                @SuppressWarnings("unchecked")
+                T row = (T) parsed[i];
+                valid.add(row);
+            }
+        }
+        if (!valid.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(insertSql, valid, JDBC_BATCH_SIZE, setter));
+        }
+        report.setImported(report.getImported() + valid.size());
+        log.info("CSV import progress: up to line {}, {} imported, {} rejected",
+                lineNumbers.get(lineNumbers.size() - 1), report.getImported(), report.getRejected());
+    }
+
+    private Object parse(String line) {
+        if (StringUtils.isBlank(line)) {
+            return null;
+        }
+        try {
+            return parser.apply(split(line));
+        } catch (RuntimeException e) {
+            return new Rejection(e.getMessage());
+        }
+    }
+
+    private static void reject(ImportReport report, long lineNumber, String reason) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getRejectedLines().size() < MAX_REPORTED_REJECTIONS) {
+            report.getRejectedLines().add(new ImportReport.RejectedLine(lineNumber, reason));
+        } else {
+            report.setRejectedLinesTruncated(true);
+        }
+    }
+
+    /**
+     * Splits one CSV record on commas, honouring double-quoted fields with "" escapes and embedded line
+     * breaks. Fields are trimmed and empty fields become null.
+     */
+    public static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(StringUtils.trimToNull(field.toString()));
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(StringUtils.trimToNull(field.toString()));
+        return fields.toArray(new String[0]);
+    }
+
+    private static final class Rejection {
+        private final String reason;
+
+        private Rejection(String reason) {
+            this.reason = reason;
+        }
+    }
+}
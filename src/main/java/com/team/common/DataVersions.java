@@ -0,0 +1,95 @@
+package com.team.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-entity-type write counters that drive ETag and Last-Modified on the list pages, so an unchanged
+ * page is answered with 304 before any query runs. Counters are bumped after commit and live in memory;
+ * the boot timestamp is part of every ETag so validators from a previous run never match.
+ */
+@Component
+public class DataVersions {
+
+    public enum Type {
+        PLAYERS, TASKS, SCHEDULES, ASSIGNMENTS
+    }
+
+    private final long bootTime = System.currentTimeMillis();
+    private final AtomicLongArray versions = new AtomicLongArray(Type.values().length);
+    private final AtomicLongArray lastModified = new AtomicLongArray(Type.values().length);
+
+    public DataVersions() {
+        for (Type type : Type.values()) {
+            lastModified.set(type.ordinal(), bootTime);
+        }
+    }
+
+    /**
+     * Records a write to the given type once the current transaction commits, or immediately without one.
+     */
+    public void changed(Type type) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(type);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(type);
+            }
+        });
+    }
+
+    /**
+     * The number of committed writes to the given type since startup, for in-memory views that rebuild when
+     * it moves.
+     */
+    public long version(Type type) {
+        return versions.get(type.ordinal());
+    }
+
+    public String etag(Type... types) {
+        StringBuilder etag = new StringBuilder("\"").append(Long.toString(bootTime, 36));
+        for (Type type : types) {
+            etag.append('-').append(type.ordinal()).append('.').append(versions.get(type.ordinal()));
+        }
+        return etag.append('"').toString();
+    }
+
+    public long lastModified(Type... types) {
+        long latest = bootTime;
+        for (Type type : types) {
+            latest = Math.max(latest, lastModified.get(type.ordinal()));
+        }
+        return latest;
+    }
+
+    /**
+     * Sets the validators for a page built from the given types and returns true when the client's copy
+     * is current, in which case the response is already a 304 and the handler should return null.
+     */
+    public boolean checkNotModified(WebRequest request, Type... types) {
+        if (request instanceof NativeWebRequest) {
+            HttpServletResponse response = ((NativeWebRequest) request).getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                // Revalidate on every view instead of letting the browser guess a freshness lifetime
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            }
+        }
+        return request.checkNotModified(etag(types), lastModified(types));
+    }
+
+    private void bump(Type type) {
+        versions.incrementAndGet(type.ordinal());
+        lastModified.accumulateAndGet(type.ordinal(), System.currentTimeMillis(), Math::max);
+    }
+}
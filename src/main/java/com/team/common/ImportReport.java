@@ -0,0 +1,24 @@
+package com.team.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportReport {
+
+    @Data
+    @AllArgsConstructor
+    public static class RejectedLine {
+        private long line;
+        private String reason;
+    }
+
+    private long linesRead;
+    private long imported;
+    private long rejected;
+    private boolean rejectedLinesTruncated;
+    private List<RejectedLine> rejectedLines = new ArrayList<>();
+}
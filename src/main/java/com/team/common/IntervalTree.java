@@ -0,0 +1,202 @@
+package com.team.common;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * AVL tree of closed intervals [start, end] keyed by (start, id), where every node also tracks the largest
+ * end in its subtree so overlap queries can prune whole branches. Lookups cost O(log n + k).
+ * Not thread-safe; callers guard access.
+ */
+public class IntervalTree {
+
+    private static final class Node {
+        private final long id;
+        private final long start;
+        private long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(long id, long start, long end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end " + end + " is before start " + start);
+        }
+        root = insert(root, id, start, end);
+    }
+
+    public boolean remove(long id, long start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    /**
+     * Visits the ids of all intervals overlapping [from, to] in (start, id) order.
+     */
+    public void forEachOverlapping(long from, long to, LongConsumer action) {
+        forEachOverlapping(root, from, to, action);
+    }
+
+    /**
+     * Returns true if any interval overlapping [from, to] has an id accepted by the filter.
+     */
+    public boolean anyOverlapping(long from, long to, LongPredicate filter) {
+        return anyOverlapping(root, from, to, filter);
+    }
+
+    private Node insert(Node node, long id, long start, long end) {
+        if (node == null) {
+            size++;
+            return new Node(id, start, end);
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, id, start, end);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, id, start, end);
+        } else {
+            node.end = end;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private void forEachOverlapping(Node node, long from, long to, LongConsumer action) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        forEachOverlapping(node.left, from, to, action);
+        if (node.start > to) {
+            return;
+        }
+        if (node.end >= from) {
+            action.accept(node.id);
+        }
+        forEachOverlapping(node.right, from, to, action);
+    }
+
+    private boolean anyOverlapping(Node node, long from, long to, LongPredicate filter) {
+        if (node == null || node.maxEnd < from) {
+            return false;
+        }
+        if (anyOverlapping(node.left, from, to, filter)) {
+            return true;
+        }
+        if (node.start > to) {
+            return false;
+        }
+        if (node.end >= from && filter.test(node.id)) {
+            return true;
+        }
+        return anyOverlapping(node.right, from, to, filter);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
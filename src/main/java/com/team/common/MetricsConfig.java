@@ -0,0 +1,46 @@
+package com.team.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Adds a handler tag, such as AssignTaskScheduleController.searchSchedule, to Boot's http.server.requests
+ * timer so request latency can be read per controller method as well as per URI pattern. Hikari pool gauges,
+ * Hibernate statistics and cache hit rates come from Boot's own binders once the actuator is on the classpath.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String NO_HANDLER = "none";
+
+    @Bean
+    public WebMvcTagsContributor handlerMethodTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                         Throwable exception) {
+                return Tags.of("handler", handlerName(handler));
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.of("handler", handlerName(handler));
+            }
+        };
+    }
+
+    static String handlerName(Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return NO_HANDLER;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
@@ -0,0 +1,12 @@
+package com.team.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class MissingVersionException extends RuntimeException {
+
+    public MissingVersionException(Class<?> entityClass, Long id) {
+        super(entityClass.getSimpleName() + " " + id + " cannot be updated without the version it was read at");
+    }
+}
@@ -0,0 +1,48 @@
+package com.team.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Id and display name of a player, task or schedule, which is all a form dropdown needs.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OptionView {
+
+    public static final int FORM_LIMIT = 200;
+
+    private Long id;
+    private String name;
+
+    /**
+     * Returns the options with the selected one prepended when it is not already present, so an edit form
+     * keeps its current value even when it falls outside the first page of options.
+     */
+    public static List<OptionView> withSelected(List<OptionView> options, OptionView selected) {
+        if (selected == null || selected.getId() == null
+                || options.stream().anyMatch(option -> selected.getId().equals(option.getId()))) {
+            return options;
+        }
+        List<OptionView> result = new ArrayList<>(options.size() + 1);
+        result.add(selected);
+        result.addAll(options);
+        return result;
+    }
+
+    /**
+     * Lower-cased LIKE pattern matching values that start with the given text, with wildcards escaped.
+     */
+    public static String likePrefix(String text) {
+        String escaped = text.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+}
@@ -0,0 +1,80 @@
+package com.team.common;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import java.util.NoSuchElementException;
+
+/**
+ * Builds one UPDATE statement that sets only the given attributes and increments the entity's version,
+ * guarded by the version the caller last read. A stale write matches no row and is
+ * reported as a conflict instead of overwriting the newer data. Must run inside a transaction.
+ *
+ * @param <T> an entity with Long "id" and "version" attributes
+ */
+public class PartialUpdate<T> {
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private final CriteriaBuilder criteriaBuilder;
+    private final CriteriaUpdate<T> update;
+    private final Root<T> root;
+
+    private PartialUpdate(EntityManager entityManager, Class<T> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+        this.criteriaBuilder = entityManager.getCriteriaBuilder();
+        this.update = criteriaBuilder.createCriteriaUpdate(entityClass);
+        this.root = update.from(entityClass);
+    }
+
+    public static <T> PartialUpdate<T> of(EntityManager entityManager, Class<T> entityClass) {
+        return new PartialUpdate<>(entityManager, entityClass);
+    }
+
+    /**
+     * Sets the attribute to the value, null included, so a form can clear an optional field.
+     */
+    public PartialUpdate<T> set(String attribute, Object value) {
+        update.set(attribute, value);
+        return this;
+    }
+
+    /**
+     * Sets the attribute when the value is not null; null means "leave unchanged". For attributes the caller
+     * does not supply, such as columns a form does not show.
+     */
+    public PartialUpdate<T> setIfPresent(String attribute, Object value) {
+        if (value != null) {
+            update.set(attribute, value);
+        }
+        return this;
+    }
+
+    /**
+     * Runs the update against the row with the given id and version.
+     *
+     * @throws MissingVersionException if expectedVersion is null, as from a form posted without its version
+     * @throws StaleUpdateException    if the row exists but has moved past expectedVersion
+     * @throws NoSuchElementException  if there is no row with the given id
+     */
+    public void execute(Long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            throw new MissingVersionException(entityClass, id);
+        }
+        Path<Long> version = root.get("version");
+        update.set(version, criteriaBuilder.sum(version, 1L));
+        update.where(criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("id"), id),
+                criteriaBuilder.equal(version, expectedVersion)));
+        if (entityManager.createQuery(update).executeUpdate() == 1) {
+            return;
+        }
+        if (entityManager.find(entityClass, id) == null) {
+            throw new NoSuchElementException(entityClass.getSimpleName() + " " + id + " does not exist");
+        }
+        throw new StaleUpdateException(entityClass, id, expectedVersion);
+    }
+}
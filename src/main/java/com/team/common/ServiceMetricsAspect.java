@@ -0,0 +1,42 @@
+package com.team.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the application's @Service beans as team.service, tagged with the class,
+ * method and the exception it ended with, if any. Together with the handler tag on http.server.requests this
+ * shows whether a slow page spends its time in the service layer or in rendering.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "team.service";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("within(@org.springframework.stereotype.Service com.team..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.team.common;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource so every statement the repositories issue is timed for SlowQueryLog.
+ * Turned off with team.slow-query.enabled=false. The log is looked up lazily so this post processor does not
+ * force it, or anything it depends on, to be created early.
+ */
+@Component
+@ConditionalOnProperty(name = "team.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource)) {
+            return bean;
+        }
+        SlowQueryLog log = slowQueryLog.getObject();
+        log.setExplainDataSource((DataSource) bean);
+        return StatementTimingProxies.dataSource((DataSource) bean, log);
+    }
+}
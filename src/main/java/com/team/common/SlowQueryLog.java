@@ -0,0 +1,208 @@
+package com.team.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the slowest statements seen since startup, one entry per SQL text, bounded to capacity entries by
+ * evicting the entry with the lowest maximum. Statements over threshold-ms are logged with their bound
+ * parameters and the service method that issued them, and a select's plan is captured with H2's EXPLAIN
+ * ANALYZE on a background thread the first time it is seen and whenever it sets a new maximum. A locking
+ * select (FOR UPDATE) is only EXPLAINed, since running it again would wait on the locks its own transaction
+ * still holds. The plan is taken on a separate connection, so it cannot see rows the original transaction
+ * had not committed.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final int EXPLAIN_QUEUE = 16;
+    private static final Pattern FOR_UPDATE = Pattern.compile("\\bfor\\s+update\\b", Pattern.CASE_INSENSITIVE);
+
+    @Value("${team.slow-query.threshold-ms:100}")
+    private long thresholdMillis;
+
+    @Value("${team.slow-query.capacity:50}")
+    private int capacity;
+
+    @Value("${team.slow-query.explain:true}")
+    private boolean explain;
+
+    private final Map<String, SlowQueryView> queries = new LinkedHashMap<>();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(EXPLAIN_QUEUE), runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    private volatile DataSource explainDataSource;
+
+    /**
+     * Sets the unwrapped data source plans are taken on, so EXPLAIN ANALYZE is never itself timed.
+     */
+    void setExplainDataSource(DataSource dataSource) {
+        this.explainDataSource = dataSource;
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    void record(String sql, List<Object> parameters, long elapsedNanos) {
+        double millis = elapsedNanos / 1e6;
+        String caller = caller();
+        List<String> rendered = parameters.stream().map(SlowQueryLog::render).collect(Collectors.toList());
+        log.warn("Slow query took {} ms in {}: {} {}", String.format("%.1f", millis), caller, sql, rendered);
+
+        boolean capturePlan;
+        synchronized (queries) {
+            SlowQueryView query = queries.get(sql);
+            if (query == null) {
+                if (queries.size() >= capacity && !evictFasterThan(millis)) {
+                    return;
+                }
+                query = new SlowQueryView();
+                query.setSql(sql);
+                queries.put(sql, query);
+            }
+            capturePlan = query.getPlan() == null || millis > query.getMaxMillis();
+            query.setCount(query.getCount() + 1);
+            query.setMaxMillis(Math.max(query.getMaxMillis(), millis));
+            query.setTotalMillis(query.getTotalMillis() + millis);
+            query.setLastMillis(millis);
+            query.setLastParameters(rendered);
+            query.setCaller(caller);
+            query.setLastSeen(Instant.now());
+        }
+        if (capturePlan && explain && explainDataSource != null && isSelect(sql)) {
+            List<Object> values = new ArrayList<>(parameters);
+            explainer.execute(() -> capturePlan(sql, values));
+        }
+    }
+
+    /**
+     * Copies of the captured statements, slowest first.
+     */
+    public List<SlowQueryView> top() {
+        List<SlowQueryView> top = new ArrayList<>();
+        synchronized (queries) {
+            for (SlowQueryView query : queries.values()) {
+                SlowQueryView copy = new SlowQueryView();
+                copy.setSql(query.getSql());
+                copy.setCount(query.getCount());
+                copy.setMaxMillis(query.getMaxMillis());
+                copy.setTotalMillis(query.getTotalMillis());
+                copy.setLastMillis(query.getLastMillis());
+                copy.setLastParameters(new ArrayList<>(query.getLastParameters()));
+                copy.setCaller(query.getCaller());
+                copy.setLastSeen(query.getLastSeen());
+                copy.setPlan(query.getPlan());
+                top.add(copy);
+            }
+        }
+        top.sort(Comparator.comparingDouble(SlowQueryView::getMaxMillis).reversed());
+        return top;
+    }
+
+    public void clear() {
+        synchronized (queries) {
+            queries.clear();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        explainer.shutdownNow();
+    }
+
+    private boolean evictFasterThan(double millis) {
+        Optional<SlowQueryView> fastest = queries.values().stream().min(Comparator.comparingDouble(SlowQueryView::getMaxMillis));
+        if (fastest.isEmpty() || fastest.get().getMaxMillis() >= millis) {
+            return false;
+        }
+        queries.remove(fastest.get().getSql());
+        return true;
+    }
+
+    private void capturePlan(String sql, List<Object> parameters) {
+        StringBuilder plan = new StringBuilder();
+        String explain = FOR_UPDATE.matcher(sql).find() ? "EXPLAIN" : "EXPLAIN ANALYZE";
+        try (Connection connection = explainDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(explain + " " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Could not explain {}", sql, e);
+            plan.append(explain).append(" failed: ").append(e.getMessage());
+        }
+        synchronized (queries) {
+            SlowQueryView query = queries.get(sql);
+            if (query != null) {
+                query.setPlan(plan.toString().trim());
+            }
+        }
+    }
+
+    /**
+     * The innermost service method on the stack, or failing that the innermost application frame outside
+     * this package and the JFR aspect; Spring proxy and CGLIB frames are skipped.
+     */
+    private static String caller() {
+        List<StackWalker.StackFrame> frames = StackWalker.getInstance().walk(stream -> stream
+                .filter(frame -> frame.getClassName().startsWith("com.team.")
+                        && !frame.getClassName().startsWith("com.team.common.")
+                        && !frame.getClassName().startsWith("com.team.jfr.")
+                        && !frame.getClassName().contains("$$"))
+                .collect(Collectors.toList()));
+        return frames.stream()
+                .filter(frame -> frame.getClassName().endsWith("Service"))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, "select".length());
+    }
+
+    private static String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String text = value instanceof CharSequence ? "'" + value + "'" : String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+}
@@ -0,0 +1,21 @@
+package com.team.common;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class SlowQueryView {
+
+    private String sql;
+    private long count;
+    private double maxMillis;
+    private double totalMillis;
+    private double lastMillis;
+    private List<String> lastParameters = new ArrayList<>();
+    private String caller;
+    private Instant lastSeen;
+    private String plan;
+}
@@ -0,0 +1,13 @@
+package com.team.common;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class StaleUpdateException extends RuntimeException {
+
+    public StaleUpdateException(Class<?> entityClass, Long id, Long expectedVersion) {
+        super(entityClass.getSimpleName() + " " + id + " was changed by someone else since version "
+                + expectedVersion + "; reload it and try again");
+    }
+}
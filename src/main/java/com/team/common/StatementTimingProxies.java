@@ -0,0 +1,107 @@
+package com.team.common;
+
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDK proxies over DataSource, Connection and the Statement types that time each execute call and hand
+ * statements slower than the log's threshold to SlowQueryLog together with the parameters bound to them.
+ * Parameters are forgotten once added to a batch, so a batch is logged without the values of its last row.
+ * Every other call, including unwrap, is passed straight to the pooled object underneath.
+ */
+final class StatementTimingProxies {
+
+    private StatementTimingProxies() {
+    }
+
+    static DataSource dataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        Class<?>[] interfaces = ClassUtils.getAllInterfaces(target);
+        return (DataSource) Proxy.newProxyInstance(StatementTimingProxies.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return "getConnection".equals(method.getName())
+                            ? connection((Connection) result, slowQueryLog)
+                            : result;
+                });
+    }
+
+    private static Connection connection(Connection target, SlowQueryLog slowQueryLog) {
+        return (Connection) Proxy.newProxyInstance(StatementTimingProxies.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    switch (method.getName()) {
+                        case "createStatement":
+                            return statement(Statement.class, (Statement) result, null, slowQueryLog);
+                        case "prepareStatement":
+                            return statement(PreparedStatement.class, (Statement) result, (String) args[0], slowQueryLog);
+                        case "prepareCall":
+                            return statement(CallableStatement.class, (Statement) result, (String) args[0], slowQueryLog);
+                        default:
+                            return result;
+                    }
+                });
+    }
+
+    private static Object statement(Class<? extends Statement> type, Statement target, String sql, SlowQueryLog slowQueryLog) {
+        return Proxy.newProxyInstance(StatementTimingProxies.class.getClassLoader(), new Class<?>[]{type},
+                new TimedStatement(target, sql, slowQueryLog));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class TimedStatement implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final SlowQueryLog slowQueryLog;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        private TimedStatement(Statement target, String sql, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.sql = sql;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long started = System.nanoTime();
+                try {
+                    return StatementTimingProxies.invoke(target, method, args);
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    if (slowQueryLog.isSlow(elapsed)) {
+                        String executed = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+                        slowQueryLog.record(executed, new ArrayList<>(parameters.values()), elapsed);
+                    }
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer
+                    && PreparedStatement.class.isAssignableFrom(method.getDeclaringClass())) {
+                parameters.put((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name) || "addBatch".equals(name)) {
+                parameters.clear();
+            }
+            return StatementTimingProxies.invoke(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.team.common;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool of locks selected by key hash, so writers for the same key serialize while writers for
+ * different keys rarely contend and no single lock becomes a global bottleneck.
+ */
+public class StripedLock {
+
+    private final Lock[] stripes;
+
+    public StripedLock(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock get(Object key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+}
@@ -0,0 +1,54 @@
+package com.team.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and MVC async work, such as streamed exports, on virtual threads when
+ * team.virtual-threads.enabled is set, so a request blocked on JDBC no longer holds one of a fixed pool of
+ * platform threads. Virtual threads need JDK 21; the executor is looked up reflectively so the Java 11 build
+ * still compiles, and startup fails on an older runtime rather than silently falling back.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "team.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("Handling requests on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("team.virtual-threads.enabled needs JDK 21 or newer but this is "
+                    + System.getProperty("java.version"), e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    /**
+     * Replaces Boot's pooled application executor, which Spring MVC uses for StreamingResponseBody and other
+     * async return values.
+     */
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+}
@@ -0,0 +1,379 @@
+package com.team.dataset;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleIntervalIndex;
+import com.team.assignTaskSchedule.PlayerAvailabilityIndex;
+import com.team.common.DataVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Generates a reproducible synthetic dataset and bulk-loads it with batched JDBC inserts. Rows are produced in
+ * chunks, each from its own random stream derived from the seed and the chunk number and with ids fixed by
+ * the chunk, so a spec yields the same rows however many threads load it. Chunks are generated and inserted in
+ * parallel, one connection and transaction each.
+ *
+ * The data is skewed the way real use is: task popularity follows a Zipf law, schedules cluster in the spring
+ * and autumn seasons, and assignments per player are exponentially distributed. Each player's assignments are
+ * laid out in date order without overlaps, the same invariant AssignTaskScheduleService enforces.
+ *
+ * Meant for an otherwise idle database, typically at startup through DatasetStartupLoader.
+ */
+@Slf4j
+@Component
+public class DatasetGenerator {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int JDBC_BATCH_SIZE = 1_000;
+    private static final int MAX_ASSIGNMENTS_PER_PLAYER = 1_000;
+    private static final int MAX_SCHEDULE_DAYS = 14;
+    private static final int SEASON_WEIGHT = 4;
+    private static final double TASK_ZIPF_EXPONENT = 1.1;
+    private static final int SCHEDULE_CHOICES = 8;
+    private static final long SEQUENCE_ALLOCATION = 50;
+
+    private static final long PLAYER_STREAM = 1;
+    private static final long TASK_STREAM = 2;
+    private static final long SCHEDULE_STREAM = 3;
+    private static final long ASSIGNMENT_STREAM = 4;
+
+    private static final String[] FIRST_NAMES = {"James", "Maria", "Arjun", "Sofia", "Liam", "Aisha", "Noah", "Priya",
+            "Lucas", "Emma", "Rahul", "Mia", "Ethan", "Ananya", "Leo", "Zara", "Omar", "Chloe", "Ravi", "Hana"};
+    private static final String[] LAST_NAMES = {"Smith", "Patil", "Garcia", "Khan", "Müller", "Rossi", "Kumar", "Silva",
+            "Nguyen", "Jones", "Deshmukh", "Brown", "Kowalski", "Sato", "Martin", "Okafor", "Joshi", "Novak", "Lee", "Costa"};
+    private static final String[] PLAYER_TYPES = {"Pro", "Pro", "Amateur", "Amateur", "Amateur", "Youth"};
+    private static final String[] TASK_TYPES = {"Drill", "Match", "Fitness", "Tactics", "Recovery"};
+    private static final String[] SCHEDULE_TYPES = {"Training", "League", "Tournament", "Camp"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Autowired
+    private AssignTaskScheduleIntervalIndex intervalIndex;
+
+    @Autowired
+    private PlayerAvailabilityIndex availabilityIndex;
+
+    public DatasetReport generate(DatasetSpec spec) {
+        long started = System.currentTimeMillis();
+        int threads = spec.getThreads() > 0 ? spec.getThreads() : Runtime.getRuntime().availableProcessors();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long playerBase = maxId("player_entity");
+        long taskBase = maxId("task_entity");
+        long scheduleBase = maxId("schedule_entity");
+        long assignmentBase = Math.max(maxId("assign_task_schedule_entity"),
+                jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR assign_task_schedule_seq", Long.class));
+        Schedules schedules = Schedules.generate(spec, scheduleBase);
+        double[] taskCdf = zipfCdf(spec.getTasks());
+        AtomicLong assignments = new AtomicLong();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            inParallel(pool, chunks(spec.getPlayers()), chunk -> insertPlayers(spec, playerBase, chunk, now));
+            inParallel(pool, chunks(spec.getTasks()), chunk -> insertTasks(spec, taskBase, chunk, now));
+            inParallel(pool, chunks(spec.getSchedules()), chunk -> insertSchedules(schedules, chunk, now));
+            inParallel(pool, chunks(spec.getPlayers()), chunk -> assignments.addAndGet(insertAssignments(
+                    spec, schedules, taskCdf, playerBase, taskBase, assignmentBase, chunk, now)));
+        } finally {
+            pool.shutdown();
+        }
+
+        restartIdentity("player_entity", playerBase + spec.getPlayers());
+        restartIdentity("task_entity", taskBase + spec.getTasks());
+        restartIdentity("schedule_entity", scheduleBase + spec.getSchedules());
+        jdbcTemplate.execute("ALTER SEQUENCE assign_task_schedule_seq RESTART WITH "
+                + (maxId("assign_task_schedule_entity") + 2 * SEQUENCE_ALLOCATION));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        for (DataVersions.Type type : DataVersions.Type.values()) {
+            dataVersions.changed(type);
+        }
+        intervalIndex.refresh();
+        availabilityIndex.refresh();
+
+        DatasetReport report = new DatasetReport();
+        report.setPlayers(spec.getPlayers());
+        report.setTasks(spec.getTasks());
+        report.setSchedules(spec.getSchedules());
+        report.setAssignments(assignments.get());
+        report.setMillis(System.currentTimeMillis() - started);
+        log.info("Generated {} players, {} tasks, {} schedules and {} assignments in {} ms on {} threads",
+                report.getPlayers(), report.getTasks(), report.getSchedules(), report.getAssignments(),
+                report.getMillis(), threads);
+        return report;
+    }
+
+    private void insertPlayers(DatasetSpec spec, long base, int chunk, Timestamp now) {
+        SplittableRandom random = random(spec, PLAYER_STREAM, chunk);
+        batchInsert("INSERT INTO player_entity (id, first_name, last_name, email, rank, type, created_on, version)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, 0)", batch -> {
+            for (long id = first(base, chunk); id <= last(base, chunk, spec.getPlayers()); id++) {
+                String firstName = pick(random, FIRST_NAMES);
+                String lastName = pick(random, LAST_NAMES);
+                batch.add(id, firstName, lastName, firstName.toLowerCase() + "." + id + "@example.com",
+                        1 + random.nextInt(10), pick(random, PLAYER_TYPES), now);
+            }
+        });
+    }
+
+    private void insertTasks(DatasetSpec spec, long base, int chunk, Timestamp now) {
+        SplittableRandom random = random(spec, TASK_STREAM, chunk);
+        batchInsert("INSERT INTO task_entity (id, name, description, type, created_on, version)"
+                + " VALUES (?, ?, ?, ?, ?, 0)", batch -> {
+            for (long id = first(base, chunk); id <= last(base, chunk, spec.getTasks()); id++) {
+                String type = pick(random, TASK_TYPES);
+                batch.add(id, type + " " + id, type + " session number " + id, type, now);
+            }
+        });
+    }
+
+    private void insertSchedules(Schedules schedules, int chunk, Timestamp now) {
+        batchInsert("INSERT INTO schedule_entity (id, name, description, type, start_date, end_date, start_date_str,"
+                + " end_date_str, created_on, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", batch -> {
+            for (long id = first(schedules.base, chunk); id <= last(schedules.base, chunk, schedules.size()); id++) {
+                int index = (int) (id - schedules.base - 1);
+                LocalDate startDate = LocalDate.ofEpochDay(schedules.startDays[index]);
+                LocalDate endDate = LocalDate.ofEpochDay(schedules.endDays[index]);
+                batch.add(id, schedules.types[index] + " " + id, schedules.types[index] + " from " + startDate,
+                        schedules.types[index], startDate, endDate, startDate.toString(), endDate.toString(), now);
+            }
+        });
+    }
+
+    /**
+     * Lays out each player's assignments in date order: the next one starts after a random gap at one of the
+     * first few schedules beginning after the previous one ends, so busy seasons, having more schedules, get
+     * more assignments. Ids are reserved per chunk, since how many a chunk gets is only known once generated.
+     */
+    private long insertAssignments(DatasetSpec spec, Schedules schedules, double[] taskCdf, long playerBase,
+                                   long taskBase, long assignmentBase, int chunk, Timestamp now) {
+        SplittableRandom random = random(spec, ASSIGNMENT_STREAM, chunk);
+        double mean = spec.getPlayers() == 0 ? 0 : (double) spec.getAssignments() / spec.getPlayers();
+        long[] inserted = new long[1];
+        batchInsert("INSERT INTO assign_task_schedule_entity (id, player_id, task_id, schedule_id, start_date,"
+                + " end_date, created_on, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", batch -> {
+            long nextId = assignmentBase + (long) chunk * CHUNK_SIZE * MAX_ASSIGNMENTS_PER_PLAYER + 1;
+            for (long playerId = first(playerBase, chunk); playerId <= last(playerBase, chunk, spec.getPlayers()); playerId++) {
+                int count = (int) Math.min(MAX_ASSIGNMENTS_PER_PLAYER, Math.round(-mean * Math.log(1 - random.nextDouble())));
+                int maxGap = Math.max(1, spec.getDays() / (count + 1));
+                long lastEnd = spec.getFirstDay().toEpochDay() - 1;
+                for (int n = 0; n < count; n++) {
+                    int position = schedules.firstStartingFrom(lastEnd + 1 + random.nextInt(maxGap));
+                    if (position >= schedules.size()) {
+                        break;
+                    }
+                    int index = schedules.byStart[position + random.nextInt(Math.min(SCHEDULE_CHOICES, schedules.size() - position))];
+                    batch.add(nextId++, playerId, taskBase + 1 + zipf(random, taskCdf), schedules.base + 1 + index,
+                            LocalDate.ofEpochDay(schedules.startDays[index]), LocalDate.ofEpochDay(schedules.endDays[index]), now);
+                    lastEnd = schedules.endDays[index];
+                    inserted[0]++;
+                }
+            }
+        });
+        return inserted[0];
+    }
+
+    private void batchInsert(String sql, BatchBody body) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                Batch batch = new Batch(statement);
+                body.write(batch);
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private void restartIdentity(String table, long lastId) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+    }
+
+    private static void inParallel(ForkJoinPool pool, int chunks, ChunkTask task) {
+        try {
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(task::run)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the dataset", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static int chunks(long rows) {
+        return (int) ((rows + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    private static long first(long base, int chunk) {
+        return base + (long) chunk * CHUNK_SIZE + 1;
+    }
+
+    private static long last(long base, int chunk, long rows) {
+        return base + Math.min((long) (chunk + 1) * CHUNK_SIZE, rows);
+    }
+
+    private static SplittableRandom random(DatasetSpec spec, long stream, int chunk) {
+        return new SplittableRandom(spec.getSeed() * 1_000_003L + stream * 1_000_000_007L + chunk);
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double[] zipfCdf(int size) {
+        double[] cdf = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, TASK_ZIPF_EXPONENT);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int zipf(SplittableRandom random, double[] cdf) {
+        int position = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(position >= 0 ? position : -position - 1, cdf.length - 1);
+    }
+
+    /**
+     * All schedules of the dataset held as primitive arrays, with their order by start day for the
+     * assignment layout.
+     */
+    private static final class Schedules {
+
+        private final long base;
+        private final long[] startDays;
+        private final long[] endDays;
+        private final String[] types;
+        private final int[] byStart;
+        private final long[] sortedStartDays;
+
+        private Schedules(long base, long[] startDays, long[] endDays, String[] types) {
+            this.base = base;
+            this.startDays = startDays;
+            this.endDays = endDays;
+            this.types = types;
+            byStart = IntStream.range(0, startDays.length).boxed()
+                    .sorted(Comparator.comparingLong((Integer index) -> startDays[index]).thenComparingInt(index -> index))
+                    .mapToInt(Integer::intValue).toArray();
+            sortedStartDays = new long[byStart.length];
+            for (int i = 0; i < byStart.length; i++) {
+                sortedStartDays[i] = startDays[byStart[i]];
+            }
+        }
+
+        /**
+         * Start days are drawn from the period with days in March to June and September to November weighted
+         * SEASON_WEIGHT times heavier than the off-season.
+         */
+        static Schedules generate(DatasetSpec spec, long base) {
+            double[] dayCdf = new double[spec.getDays()];
+            double sum = 0;
+            for (int day = 0; day < dayCdf.length; day++) {
+                Month month = spec.getFirstDay().plusDays(day).getMonth();
+                boolean season = (month.compareTo(Month.MARCH) >= 0 && month.compareTo(Month.JUNE) <= 0)
+                        || (month.compareTo(Month.SEPTEMBER) >= 0 && month.compareTo(Month.NOVEMBER) <= 0);
+                sum += season ? SEASON_WEIGHT : 1;
+                dayCdf[day] = sum;
+            }
+            SplittableRandom random = random(spec, SCHEDULE_STREAM, 0);
+            long firstDay = spec.getFirstDay().toEpochDay();
+            long[] startDays = new long[spec.getSchedules()];
+            long[] endDays = new long[spec.getSchedules()];
+            String[] types = new String[spec.getSchedules()];
+            for (int i = 0; i < startDays.length; i++) {
+                int position = Arrays.binarySearch(dayCdf, random.nextDouble() * sum);
+                startDays[i] = firstDay + Math.min(position >= 0 ? position : -position - 1, dayCdf.length - 1);
+                endDays[i] = startDays[i] + random.nextInt(MAX_SCHEDULE_DAYS);
+                types[i] = pick(random, SCHEDULE_TYPES);
+            }
+            return new Schedules(base, startDays, endDays, types);
+        }
+
+        int size() {
+            return startDays.length;
+        }
+
+        int firstStartingFrom(long day) {
+            int low = 0;
+            int high = sortedStartDays.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sortedStartDays[middle] < day) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Batch {
+
+        private final PreparedStatement statement;
+        private int pending;
+
+        private Batch(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (++pending == JDBC_BATCH_SIZE) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+
+    private interface BatchBody {
+
+        void write(Batch batch) throws SQLException;
+    }
+
+    private interface ChunkTask {
+
+        void run(int chunk);
+    }
+}
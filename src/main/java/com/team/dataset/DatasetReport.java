@@ -0,0 +1,13 @@
+package com.team.dataset;
+
+import lombok.Data;
+
+@Data
+public class DatasetReport {
+
+    private long players;
+    private long tasks;
+    private long schedules;
+    private long assignments;
+    private long millis;
+}
@@ -0,0 +1,24 @@
+package com.team.dataset;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Size and shape of a generated dataset. The same spec and seed always produce the same rows.
+ */
+@Data
+public class DatasetSpec {
+
+    private long seed = 42;
+    private int players = 10_000;
+    private int tasks = 200;
+    private int schedules = 2_000;
+    private long assignments = 200_000;
+    private LocalDate firstDay = LocalDate.of(2024, 1, 1);
+    private int days = 730;
+    /**
+     * Worker threads; 0 uses one per available core.
+     */
+    private int threads;
+}
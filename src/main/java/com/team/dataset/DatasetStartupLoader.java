@@ -0,0 +1,60 @@
+package com.team.dataset;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Loads a generated dataset when the application starts with team.dataset.generate=true, before it takes
+ * requests and before the interval index reads the assignments.
+ */
+@Component
+@ConditionalOnProperty(name = "team.dataset.generate", havingValue = "true")
+public class DatasetStartupLoader implements ApplicationRunner {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Value("${team.dataset.seed:42}")
+    private long seed;
+
+    @Value("${team.dataset.players:10000}")
+    private int players;
+
+    @Value("${team.dataset.tasks:200}")
+    private int tasks;
+
+    @Value("${team.dataset.schedules:2000}")
+    private int schedules;
+
+    @Value("${team.dataset.assignments:200000}")
+    private long assignments;
+
+    @Value("${team.dataset.first-day:2024-01-01}")
+    private String firstDay;
+
+    @Value("${team.dataset.days:730}")
+    private int days;
+
+    @Value("${team.dataset.threads:0}")
+    private int threads;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setSeed(seed);
+        spec.setPlayers(players);
+        spec.setTasks(tasks);
+        spec.setSchedules(schedules);
+        spec.setAssignments(assignments);
+        spec.setFirstDay(LocalDate.parse(firstDay));
+        spec.setDays(days);
+        spec.setThreads(threads);
+        datasetGenerator.generate(spec);
+    }
+}
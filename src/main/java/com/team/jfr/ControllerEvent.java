@@ -0,0 +1,25 @@
+package com.team.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.team.Controller")
+@Label("Controller Handler")
+@Description("A Spring MVC handler method, from the call into the controller to its return; view rendering is not included")
+@Category({"Team Management", "Web"})
+@StackTrace(false)
+class ControllerEvent extends Event {
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,174 @@
+package com.team.jfr;
+
+import com.team.assignTaskSchedule.AssignTaskSchedulePage;
+import com.team.assignTaskSchedule.SearchDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits a JFR event around every public controller handler, service method and repository call. While no
+ * recording has the events enabled, begin/end are no-ops and the arguments and results are never inspected, so
+ * the idle cost is a few field writes per call. Entity type comes from the class name, for example PlayerService
+ * or AssignTaskScheduleRepository. Advising a controller makes it a CGLIB proxy, whose own fields are never
+ * injected, so controller handlers must be public to reach the target instance.
+ */
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    static final long UNKNOWN = -1;
+
+    @Around("(within(@org.springframework.stereotype.Controller com.team..*)"
+            + " || within(@org.springframework.web.bind.annotation.RestController com.team..*))"
+            + " && execution(public * *(..))")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        ControllerEvent event = new ControllerEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.handler = type + "." + joinPoint.getSignature().getName();
+                event.entityType = entityType(type, "ApiController", "Controller");
+                event.commit();
+            }
+        }
+    }
+
+    @Around("within(@org.springframework.stereotype.Service com.team..*) && execution(public * *(..))")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceEvent event = new ServiceEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Object result = null;
+        event.begin();
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = type + "." + joinPoint.getSignature().getName();
+                event.entityType = entityType(type, "Service");
+                event.rows = event.failure == null ? rows(result) : UNKNOWN;
+                event.rangeDays = rangeDays(joinPoint.getArgs());
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryEvent event = new RepositoryEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Object result = null;
+        event.begin();
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.failure = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                // The target is a Spring Data proxy; the application's interface carries the useful name
+                String type = repositoryName(joinPoint.getThis());
+                event.method = type + "." + joinPoint.getSignature().getName();
+                event.entityType = entityType(type, "Repository");
+                event.rows = event.failure == null ? rows(result) : UNKNOWN;
+                event.rangeDays = rangeDays(joinPoint.getArgs());
+                event.commit();
+            }
+        }
+    }
+
+    static long rows(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof AssignTaskSchedulePage) {
+            return ((AssignTaskSchedulePage) result).getContent().size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result == null || result instanceof Number || result instanceof Boolean || result instanceof Iterable
+                || result instanceof java.util.stream.BaseStream) {
+            return UNKNOWN;
+        }
+        return 1;
+    }
+
+    /**
+     * Days covered by a SearchDto argument or by the first two LocalDate arguments, inclusive of both ends.
+     */
+    static long rangeDays(Object[] args) {
+        LocalDate start = null;
+        LocalDate end = null;
+        try {
+            for (Object arg : args) {
+                if (arg instanceof SearchDto) {
+                    start = ((SearchDto) arg).getStartDate();
+                    end = ((SearchDto) arg).getEndDate();
+                    break;
+                }
+                if (arg instanceof LocalDate) {
+                    if (start == null) {
+                        start = (LocalDate) arg;
+                    } else {
+                        end = (LocalDate) arg;
+                        break;
+                    }
+                }
+            }
+        } catch (RuntimeException unparseable) {
+            return UNKNOWN;
+        }
+        return start == null || end == null ? UNKNOWN : ChronoUnit.DAYS.between(start, end) + 1;
+    }
+
+    private static String entityType(String type, String... suffixes) {
+        for (String suffix : suffixes) {
+            if (type.endsWith(suffix)) {
+                return type.substring(0, type.length() - suffix.length());
+            }
+        }
+        return type;
+    }
+
+    private static String repositoryName(Object proxy) {
+        for (Class<?> candidate : proxy.getClass().getInterfaces()) {
+            if (candidate.getName().startsWith("com.team.")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return proxy.getClass().getSimpleName();
+    }
+}
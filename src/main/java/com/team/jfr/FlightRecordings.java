@@ -0,0 +1,126 @@
+package com.team.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Starts and stops one on-demand flight recording at a time. Every recording is bounded: it stops by itself
+ * after its duration and keeps at most max-size of data on disk, both capped by team.jfr.max-* whatever the
+ * caller asks for. The application's own events are enabled with no threshold on top of the JDK settings.
+ * The recorder itself is initialised at startup: initialised by the first recording, once the application is
+ * running, it left requests allocating about a quarter more and taking up to twice as long from then on, even
+ * with no recording open.
+ */
+@Slf4j
+@Component
+public class FlightRecordings {
+
+    static final String NAME = "team-management";
+
+    @Value("${team.jfr.settings:profile}")
+    private String settings;
+
+    @Value("${team.jfr.max-duration-seconds:1800}")
+    private long maxDurationSeconds;
+
+    @Value("${team.jfr.max-size-mb:250}")
+    private long maxSizeMb;
+
+    private Recording recording;
+
+    @PostConstruct
+    void initialize() {
+        FlightRecorder.getFlightRecorder();
+    }
+
+    public synchronized RecordingStatusView start(long durationSeconds, long sizeMb) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new RecordingStateException("A recording is already running; stop it first");
+        }
+        close();
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not read JFR settings " + settings, e);
+        }
+        started.setName(NAME);
+        started.setDuration(Duration.ofSeconds(clamp(durationSeconds, maxDurationSeconds)));
+        started.setMaxSize(clamp(sizeMb, maxSizeMb) * 1024 * 1024);
+        started.setToDisk(true);
+        started.enable(ControllerEvent.class).withThreshold(Duration.ZERO);
+        started.enable(ServiceEvent.class).withThreshold(Duration.ZERO);
+        started.enable(RepositoryEvent.class).withThreshold(Duration.ZERO);
+        started.start();
+        recording = started;
+        log.info("Started flight recording for {} s, up to {} bytes", started.getDuration().getSeconds(), started.getMaxSize());
+        return status();
+    }
+
+    public synchronized RecordingStatusView stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new RecordingStateException("No recording is running");
+        }
+        recording.stop();
+        log.info("Stopped flight recording");
+        return status();
+    }
+
+    /**
+     * Writes the data recorded so far, from a running or a stopped recording, to a temporary file the caller
+     * deletes once it has been sent.
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.CLOSED) {
+            throw new RecordingStateException("There is no recording to dump");
+        }
+        try {
+            Path file = Files.createTempFile(NAME + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized RecordingStatusView status() {
+        RecordingStatusView status = new RecordingStatusView();
+        if (recording == null) {
+            status.setState(RecordingState.NEW.name());
+            return status;
+        }
+        status.setState(recording.getState().name());
+        status.setSettings(settings);
+        status.setStartTime(recording.getStartTime());
+        status.setDurationSeconds(recording.getDuration() != null ? recording.getDuration().getSeconds() : 0);
+        status.setMaxSizeBytes(recording.getMaxSize());
+        status.setSizeBytes(recording.getSize());
+        return status;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static long clamp(long requested, long max) {
+        return requested <= 0 ? max : Math.min(requested, max);
+    }
+}
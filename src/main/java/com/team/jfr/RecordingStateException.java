@@ -0,0 +1,12 @@
+package com.team.jfr;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class RecordingStateException extends RuntimeException {
+
+    public RecordingStateException(String message) {
+        super(message);
+    }
+}
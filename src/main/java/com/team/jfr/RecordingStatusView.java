@@ -0,0 +1,16 @@
+package com.team.jfr;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class RecordingStatusView {
+
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private long durationSeconds;
+    private long maxSizeBytes;
+    private long sizeBytes;
+}
@@ -0,0 +1,33 @@
+package com.team.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.team.Repository")
+@Label("Repository Call")
+@Description("A Spring Data repository method, including the queries it runs and the entities it maps")
+@Category({"Team Management", "Repository"})
+@StackTrace(false)
+class RepositoryEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Rows")
+    @Description("Rows returned, or -1 when the result is not a collection, page or entity")
+    long rows;
+
+    @Label("Range Days")
+    @Description("Width in days of the date window passed to the query, or -1 when there is none")
+    long rangeDays;
+
+    @Label("Failure")
+    String failure;
+}
@@ -0,0 +1,33 @@
+package com.team.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.team.Service")
+@Label("Service Call")
+@Description("A public method of PlayerService, TaskService, ScheduleService or AssignTaskScheduleService")
+@Category({"Team Management", "Service"})
+@StackTrace(false)
+class ServiceEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Rows")
+    @Description("Rows returned, or -1 when the result is not a collection, page or entity")
+    long rows;
+
+    @Label("Range Days")
+    @Description("Width in days of the searched date window, or -1 when the call has no window or it is open-ended")
+    long rangeDays;
+
+    @Label("Failure")
+    String failure;
+}
@@ -1,11 +1,21 @@
 package com.team.player;
 
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Controller
 @RequestMapping("/player")
@@ -13,8 +23,14 @@ public class PlayerController {
     @Autowired
     private PlayerService playerService;
 
+    @Autowired
+    private DataVersions dataVersions;
+
     @GetMapping("/get-players")
-    public String getPlayers(Model model){
+    public String getPlayers(WebRequest request, Model model){
+        if (dataVersions.checkNotModified(request, DataVersions.Type.PLAYERS)) {
+            return null;
+        }
          model.addAttribute("players",playerService.getPlayers());
         return "Players";
     }
@@ -42,16 +58,24 @@ public class PlayerController {
 
     @PostMapping("/update/{id}")
     public String createPlayer(@PathVariable("id") Long id, @ModelAttribute("player") PlayerEntity player ){
-        PlayerEntity existingPlayer = playerService.getById(id);
-        existingPlayer.setFirstName(player.getFirstName());
-        existingPlayer.setLastName(player.getLastName());
-        existingPlayer.setEmail(player.getEmail());
-        existingPlayer.setRank(player.getRank());
-        existingPlayer.setType(player.getType());
-        existingPlayer.setUpdatedOn(LocalDateTime.now());
-        PlayerEntity playerEntity = playerService.create(existingPlayer);
+        player.setUpdatedOn(LocalDateTime.now());
+        playerService.update(id, player);
         return "redirect:/player/get-players";
     }
 
+    @GetMapping("/options")
+    @ResponseBody
+    public List<OptionView> getPlayerOptions(@RequestParam(value = "q", required = false) String query,
+                                             @RequestParam(value = "limit", defaultValue = "20") int limit){
+        return playerService.searchOptions(query, limit);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @ResponseBody
+    public ImportReport importPlayers(InputStream body) throws IOException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return playerService.importCsv(reader);
+        }
+    }
 
 }
@@ -27,4 +27,7 @@ public class PlayerEntity {
     private LocalDateTime createdOn;
     private LocalDateTime updatedOn;
 
+    @Version
+    private Long version;
+
 }
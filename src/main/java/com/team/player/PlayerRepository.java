@@ -1,9 +1,44 @@
 package com.team.player;
 
+import com.team.common.OptionView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PlayerRepository extends JpaRepository<PlayerEntity, Long> {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PlayerEntity p where p.id = :id")
+    Optional<PlayerEntity> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PlayerEntity p where p.id in :ids order by p.id")
+    List<PlayerEntity> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.team.common.OptionView(p.id, concat(p.firstName, ' ', p.lastName)) from PlayerEntity p"
+            + " order by p.firstName asc, p.lastName asc, p.id asc")
+    List<OptionView> findOptions(Pageable pageable);
+
+    @Query("select p.id from PlayerEntity p")
+    List<Long> findAllIds();
+
+    @Query("select new com.team.common.OptionView(p.id, concat(p.firstName, ' ', p.lastName)) from PlayerEntity p"
+            + " where p.id in :ids order by p.id asc")
+    List<OptionView> findOptionsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.team.common.OptionView(p.id, concat(p.firstName, ' ', p.lastName)) from PlayerEntity p"
+            + " where lower(p.firstName) like :prefix escape '\\' or lower(p.lastName) like :prefix escape '\\'"
+            + " or lower(concat(p.firstName, ' ', p.lastName)) like :prefix escape '\\'"
+            + " order by p.firstName asc, p.lastName asc, p.id asc")
+    List<OptionView> searchOptions(@Param("prefix") String prefix, Pageable pageable);
+
 }
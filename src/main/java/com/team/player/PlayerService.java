@@ -1,10 +1,34 @@
 package com.team.player;
 
+import com.team.assignTaskSchedule.PlayerAvailabilityIndex;
+import com.team.common.CacheConfig;
+import com.team.common.CsvImporter;
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
+import com.team.common.PartialUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -14,15 +38,152 @@ public class PlayerService {
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Autowired
+    private CaffeineCacheManager caffeineCacheManager;
+
+    @Autowired
+    private PlayerAvailabilityIndex availabilityIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<PlayerEntity> getPlayers(){
         return playerRepository.findAll();
     }
 
+    /**
+     * First options by name for a form dropdown; the form narrows further through searchOptions. Cached as an
+     * unmodifiable list of detached views, so requests sharing it cannot change it.
+     */
+    @Cacheable(cacheNames = CacheConfig.PLAYERS, key = "'options'")
+    @Transactional(readOnly = true)
+    public List<OptionView> getOptions() {
+        return List.copyOf(playerRepository.findOptions(PageRequest.of(0, OptionView.FORM_LIMIT)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OptionView> searchOptions(String query, int limit) {
+        PageRequest page = PageRequest.of(0, Math.min(Math.max(limit, 1), OptionView.FORM_LIMIT));
+        if (query == null || query.trim().isEmpty()) {
+            return playerRepository.findOptions(page);
+        }
+        return playerRepository.searchOptions(OptionView.likePrefix(query), page);
+    }
+
+    @Transactional(readOnly = true)
     public PlayerEntity getById(Long id) {
         return playerRepository.findById(id).get();
     }
 
+    @Transactional(readOnly = true)
+    public Page<PlayerEntity> getPage(Pageable pageable) {
+        return playerRepository.findAll(pageable);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, allEntries = true)
     public PlayerEntity create(PlayerEntity player) {
-        return playerRepository.save(player);
+        PlayerEntity saved = playerRepository.save(player);
+        dataVersions.changed(DataVersions.Type.PLAYERS);
+        Long id = saved.getId();
+        afterCommit(() -> availabilityIndex.putPlayer(id));
+        return saved;
+    }
+
+    /**
+     * Writes the edit form's fields of changes to the player in one statement, nulls included,
+     * provided it is still at changes.getVersion(); a concurrent edit in between raises StaleUpdateException
+     * instead of being lost, and a missing version raises MissingVersionException.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, allEntries = true)
+    public void update(Long id, PlayerEntity changes) {
+        PartialUpdate.of(entityManager, PlayerEntity.class)
+                .set("firstName", changes.getFirstName())
+                .set("lastName", changes.getLastName())
+                .set("email", changes.getEmail())
+                .set("rank", changes.getRank())
+                .set("type", changes.getType())
+                .set("updatedOn", changes.getUpdatedOn())
+                .execute(id, changes.getVersion());
+        dataVersions.changed(DataVersions.Type.PLAYERS);
+    }
+
+    /**
+     * Imports players from CSV with the columns first_name,last_name,email,rank,type after a header line.
+     * Each chunk commits on its own, so this runs outside the service transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportReport importCsv(Reader csv) throws IOException {
+        Timestamp createdOn = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return new CsvImporter<>(jdbcTemplate, transactionTemplate,
+                    "insert into player_entity (first_name, last_name, email, rank, type, created_on, version)"
+                            + " values (?, ?, ?, ?, ?, ?, 0)",
+                    PlayerService::parseCsv,
+                    (ps, player) -> {
+                        ps.setString(1, player.getFirstName());
+                        ps.setString(2, player.getLastName());
+                        ps.setString(3, player.getEmail());
+                        ps.setObject(4, player.getRank());
+                        ps.setString(5, player.getType());
+                        ps.setTimestamp(6, createdOn);
+                    }).importCsv(csv);
+        } finally {
+            // Chunks commit independently, so even a failed import may have changed the table. Evict on the raw
+            // cache: the transaction-aware one would wait for an afterCommit that a failed import never reaches
+            caffeineCacheManager.getCache(CacheConfig.PLAYERS).invalidate();
+            dataVersions.changed(DataVersions.Type.PLAYERS);
+            availabilityIndex.refreshPlayers();
+        }
+    }
+
+    static PlayerEntity parseCsv(String[] fields) {
+        if (fields.length < 3) {
+            throw new IllegalArgumentException("Expected at least 3 columns but found " + fields.length);
+        }
+        PlayerEntity player = new PlayerEntity();
+        player.setFirstName(required(fields[0], "first_name"));
+        player.setLastName(required(fields[1], "last_name"));
+        player.setEmail(required(fields[2], "email"));
+        if (fields.length > 3 && fields[3] != null) {
+            try {
+                player.setRank(Integer.valueOf(fields[3]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("rank is not a number: " + fields[3]);
+            }
+        }
+        if (fields.length > 4) {
+            player.setType(fields[4]);
+        }
+        return player;
+    }
+
+    private static String required(String value, String column) {
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
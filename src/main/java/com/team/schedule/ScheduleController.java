@@ -1,12 +1,22 @@
 package com.team.schedule;
 
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Controller
 @RequestMapping("/schedule")
@@ -15,8 +25,14 @@ public class ScheduleController {
     @Autowired
     private ScheduleService scheduleService;
 
+    @Autowired
+    private DataVersions dataVersions;
+
     @GetMapping("/get-schedules")
-    public String getSchedule(Model model){
+    public String getSchedule(WebRequest request, Model model){
+        if (dataVersions.checkNotModified(request, DataVersions.Type.SCHEDULES)) {
+            return null;
+        }
         model.addAttribute("schedules",scheduleService.getSchedules());
         return "Schedules";
     }
@@ -46,16 +62,26 @@ public class ScheduleController {
 
     @PostMapping("/update/{id}")
     public String updateSchedule(@PathVariable("id") Long id, @ModelAttribute("schedule") ScheduleEntity schedule ){
-        ScheduleEntity existingSchedule = scheduleService.getById(id);
-        existingSchedule.setName(schedule.getName());
-        existingSchedule.setDescription(schedule.getDescription());
-        existingSchedule.setStartDate(schedule.getStartDate());
-        existingSchedule.setEndDate(schedule.getEndDate());
-        existingSchedule.setStartDate(LocalDate.parse(schedule.getStartDateStr()));
-        existingSchedule.setEndDate(LocalDate.parse(schedule.getEndDateStr()));
-        existingSchedule.setUpdatedOn(LocalDateTime.now());
-        ScheduleEntity scheduleEntity = scheduleService.create(schedule);
+        schedule.setStartDate(LocalDate.parse(schedule.getStartDateStr()));
+        schedule.setEndDate(LocalDate.parse(schedule.getEndDateStr()));
+        schedule.setUpdatedOn(LocalDateTime.now());
+        scheduleService.update(id, schedule);
         return "redirect:/schedule/get-schedules";
     }
 
+    @GetMapping("/options")
+    @ResponseBody
+    public List<OptionView> getScheduleOptions(@RequestParam(value = "q", required = false) String query,
+                                               @RequestParam(value = "limit", defaultValue = "20") int limit){
+        return scheduleService.searchOptions(query, limit);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @ResponseBody
+    public ImportReport importSchedules(InputStream body) throws IOException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return scheduleService.importCsv(reader);
+        }
+    }
+
 }
@@ -30,4 +30,7 @@ public class ScheduleEntity {
     private LocalDateTime createdOn;
     private LocalDateTime updatedOn;
 
+    @Version
+    private Long version;
+
 }
@@ -1,8 +1,24 @@
 package com.team.schedule;
 
+import com.team.common.OptionView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ScheduleRepository extends JpaRepository<ScheduleEntity, Long> {
+
+    @Query("select new com.team.common.OptionView(s.id, s.name) from ScheduleEntity s"
+            + " order by s.name asc, s.id asc")
+    List<OptionView> findOptions(Pageable pageable);
+
+    @Query("select new com.team.common.OptionView(s.id, s.name) from ScheduleEntity s"
+            + " where lower(s.name) like :prefix escape '\\'"
+            + " order by s.name asc, s.id asc")
+    List<OptionView> searchOptions(@Param("prefix") String prefix, Pageable pageable);
+
 }
@@ -1,10 +1,33 @@
 package com.team.schedule;
 
-import com.team.task.TaskEntity;
+import com.team.common.CacheConfig;
+import com.team.common.CsvImporter;
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
+import com.team.common.PartialUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
@@ -14,15 +37,141 @@ public class ScheduleService {
     @Autowired
     private ScheduleRepository scheduleRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Autowired
+    private CaffeineCacheManager caffeineCacheManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<ScheduleEntity> getSchedules() {
         return scheduleRepository.findAll();
     }
 
+    /**
+     * First options by name for a form dropdown; the form narrows further through searchOptions. Cached as an
+     * unmodifiable list of detached views, so requests sharing it cannot change it.
+     */
+    @Cacheable(cacheNames = CacheConfig.SCHEDULES, key = "'options'")
+    @Transactional(readOnly = true)
+    public List<OptionView> getOptions() {
+        return List.copyOf(scheduleRepository.findOptions(PageRequest.of(0, OptionView.FORM_LIMIT)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OptionView> searchOptions(String query, int limit) {
+        PageRequest page = PageRequest.of(0, Math.min(Math.max(limit, 1), OptionView.FORM_LIMIT));
+        if (query == null || query.trim().isEmpty()) {
+            return scheduleRepository.findOptions(page);
+        }
+        return scheduleRepository.searchOptions(OptionView.likePrefix(query), page);
+    }
+
+    @Transactional(readOnly = true)
     public ScheduleEntity getById(Long id) {
         return scheduleRepository.findById(id).get();
     }
 
+    @Transactional(readOnly = true)
+    public Page<ScheduleEntity> getPage(Pageable pageable) {
+        return scheduleRepository.findAll(pageable);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.SCHEDULES, allEntries = true)
     public ScheduleEntity create(ScheduleEntity schedule) {
-        return scheduleRepository.save(schedule);
+        ScheduleEntity saved = scheduleRepository.save(schedule);
+        dataVersions.changed(DataVersions.Type.SCHEDULES);
+        return saved;
+    }
+
+    /**
+     * Writes the edit form's fields of changes to the schedule in one statement, nulls included except type, which the form does not show,
+     * provided it is still at changes.getVersion(); a concurrent edit in between raises StaleUpdateException
+     * instead of being lost, and a missing version raises MissingVersionException.
+     */
+    @CacheEvict(cacheNames = CacheConfig.SCHEDULES, allEntries = true)
+    public void update(Long id, ScheduleEntity changes) {
+        PartialUpdate.of(entityManager, ScheduleEntity.class)
+                .set("name", changes.getName())
+                .set("description", changes.getDescription())
+                .setIfPresent("type", changes.getType())
+                .set("startDate", changes.getStartDate())
+                .set("endDate", changes.getEndDate())
+                .set("startDateStr", changes.getStartDateStr())
+                .set("endDateStr", changes.getEndDateStr())
+                .set("updatedOn", changes.getUpdatedOn())
+                .execute(id, changes.getVersion());
+        dataVersions.changed(DataVersions.Type.SCHEDULES);
+    }
+
+    /**
+     * Imports schedules from CSV with the columns name,description,type,start_date,end_date (ISO dates)
+     * after a header line. Each chunk commits on its own, so this runs outside the service transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportReport importCsv(Reader csv) throws IOException {
+        Timestamp createdOn = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return new CsvImporter<>(jdbcTemplate, transactionTemplate,
+                    "insert into schedule_entity (name, description, type, start_date, end_date, start_date_str,"
+                            + " end_date_str, created_on, version) values (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                    ScheduleService::parseCsv,
+                    (ps, schedule) -> {
+                        ps.setString(1, schedule.getName());
+                        ps.setString(2, schedule.getDescription());
+                        ps.setString(3, schedule.getType());
+                        ps.setDate(4, Date.valueOf(schedule.getStartDate()));
+                        ps.setDate(5, Date.valueOf(schedule.getEndDate()));
+                        ps.setString(6, schedule.getStartDateStr());
+                        ps.setString(7, schedule.getEndDateStr());
+                        ps.setTimestamp(8, createdOn);
+                    }).importCsv(csv);
+        } finally {
+            // Chunks commit independently, so even a failed import may have changed the table. Evict on the raw
+            // cache: the transaction-aware one would wait for an afterCommit that a failed import never reaches
+            caffeineCacheManager.getCache(CacheConfig.SCHEDULES).invalidate();
+            dataVersions.changed(DataVersions.Type.SCHEDULES);
+        }
+    }
+
+    static ScheduleEntity parseCsv(String[] fields) {
+        if (fields.length < 5) {
+            throw new IllegalArgumentException("Expected 5 columns but found " + fields.length);
+        }
+        if (fields[0] == null || fields[1] == null) {
+            throw new IllegalArgumentException("name and description are required");
+        }
+        ScheduleEntity schedule = new ScheduleEntity();
+        schedule.setName(fields[0]);
+        schedule.setDescription(fields[1]);
+        schedule.setType(fields[2]);
+        schedule.setStartDate(parseDate(fields[3], "start_date"));
+        schedule.setEndDate(parseDate(fields[4], "end_date"));
+        if (schedule.getEndDate().isBefore(schedule.getStartDate())) {
+            throw new IllegalArgumentException("end_date is before start_date");
+        }
+        schedule.setStartDateStr(fields[3]);
+        schedule.setEndDateStr(fields[4]);
+        return schedule;
+    }
+
+    private static LocalDate parseDate(String value, String column) {
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " is not an ISO date: " + value);
+        }
     }
 }
@@ -1,11 +1,21 @@
 package com.team.task;
 
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Controller
 @RequestMapping("/task")
@@ -14,8 +24,14 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private DataVersions dataVersions;
+
     @GetMapping("/get-tasks")
-    private String getTasks(Model model){
+    public String getTasks(WebRequest request, Model model){
+        if (dataVersions.checkNotModified(request, DataVersions.Type.TASKS)) {
+            return null;
+        }
         model.addAttribute("tasks", taskService.getTasks());
         return "Tasks";
     }
@@ -43,12 +59,24 @@ public class TaskController {
 
     @PostMapping("/update/{id}")
     public String createTask(@PathVariable("id") Long id, @ModelAttribute("task") TaskEntity task ){
-        TaskEntity existingTask = taskService.getById(id);
-        existingTask.setName(task.getName());
-        existingTask.setDescription(task.getDescription());
-        existingTask.setUpdatedOn(LocalDateTime.now());
-        TaskEntity taskEntity = taskService.create(task);
+        task.setUpdatedOn(LocalDateTime.now());
+        taskService.update(id, task);
         return "redirect:/task/get-tasks";
     }
 
+    @GetMapping("/options")
+    @ResponseBody
+    public List<OptionView> getTaskOptions(@RequestParam(value = "q", required = false) String query,
+                                           @RequestParam(value = "limit", defaultValue = "20") int limit){
+        return taskService.searchOptions(query, limit);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @ResponseBody
+    public ImportReport importTasks(InputStream body) throws IOException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return taskService.importCsv(reader);
+        }
+    }
+
 }
@@ -24,4 +24,7 @@ public class TaskEntity {
     private LocalDateTime createdOn;
     private LocalDateTime updatedOn;
 
+    @Version
+    private Long version;
+
 }
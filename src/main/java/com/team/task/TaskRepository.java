@@ -1,8 +1,24 @@
 package com.team.task;
 
+import com.team.common.OptionView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
+
+    @Query("select new com.team.common.OptionView(t.id, t.name) from TaskEntity t"
+            + " order by t.name asc, t.id asc")
+    List<OptionView> findOptions(Pageable pageable);
+
+    @Query("select new com.team.common.OptionView(t.id, t.name) from TaskEntity t"
+            + " where lower(t.name) like :prefix escape '\\'"
+            + " order by t.name asc, t.id asc")
+    List<OptionView> searchOptions(@Param("prefix") String prefix, Pageable pageable);
+
 }
@@ -1,9 +1,30 @@
 package com.team.task;
 
+import com.team.common.CacheConfig;
+import com.team.common.CsvImporter;
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
+import com.team.common.PartialUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -13,15 +34,113 @@ public class TaskService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Autowired
+    private CaffeineCacheManager caffeineCacheManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public List<TaskEntity> getTasks() {
         return taskRepository.findAll();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
     public TaskEntity create(TaskEntity task) {
-        return taskRepository.save(task);
+        TaskEntity saved = taskRepository.save(task);
+        dataVersions.changed(DataVersions.Type.TASKS);
+        return saved;
+    }
+
+    /**
+     * Writes the edit form's fields of changes to the task in one statement, nulls included except type, which the form does not show,
+     * provided it is still at changes.getVersion(); a concurrent edit in between raises StaleUpdateException
+     * instead of being lost, and a missing version raises MissingVersionException.
+     */
+    @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    public void update(Long id, TaskEntity changes) {
+        PartialUpdate.of(entityManager, TaskEntity.class)
+                .set("name", changes.getName())
+                .set("description", changes.getDescription())
+                .setIfPresent("type", changes.getType())
+                .set("updatedOn", changes.getUpdatedOn())
+                .execute(id, changes.getVersion());
+        dataVersions.changed(DataVersions.Type.TASKS);
     }
 
+    /**
+     * First options by name for a form dropdown; the form narrows further through searchOptions. Cached as an
+     * unmodifiable list of detached views, so requests sharing it cannot change it.
+     */
+    @Cacheable(cacheNames = CacheConfig.TASKS, key = "'options'")
+    @Transactional(readOnly = true)
+    public List<OptionView> getOptions() {
+        return List.copyOf(taskRepository.findOptions(PageRequest.of(0, OptionView.FORM_LIMIT)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OptionView> searchOptions(String query, int limit) {
+        PageRequest page = PageRequest.of(0, Math.min(Math.max(limit, 1), OptionView.FORM_LIMIT));
+        if (query == null || query.trim().isEmpty()) {
+            return taskRepository.findOptions(page);
+        }
+        return taskRepository.searchOptions(OptionView.likePrefix(query), page);
+    }
+
+    @Transactional(readOnly = true)
     public TaskEntity getById(Long id) {
         return taskRepository.findById(id).get();
     }
+
+    @Transactional(readOnly = true)
+    public Page<TaskEntity> getPage(Pageable pageable) {
+        return taskRepository.findAll(pageable);
+    }
+
+    /**
+     * Imports tasks from CSV with the columns name,description,type after a header line.
+     * Each chunk commits on its own, so this runs outside the service transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportReport importCsv(Reader csv) throws IOException {
+        Timestamp createdOn = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return new CsvImporter<>(jdbcTemplate, transactionTemplate,
+                    "insert into task_entity (name, description, type, created_on, version) values (?, ?, ?, ?, 0)",
+                    TaskService::parseCsv,
+                    (ps, task) -> {
+                        ps.setString(1, task.getName());
+                        ps.setString(2, task.getDescription());
+                        ps.setString(3, task.getType());
+                        ps.setTimestamp(4, createdOn);
+                    }).importCsv(csv);
+        } finally {
+            // Chunks commit independently, so even a failed import may have changed the table. Evict on the raw
+            // cache: the transaction-aware one would wait for an afterCommit that a failed import never reaches
+            caffeineCacheManager.getCache(CacheConfig.TASKS).invalidate();
+            dataVersions.changed(DataVersions.Type.TASKS);
+        }
+    }
+
+    static TaskEntity parseCsv(String[] fields) {
+        if (fields.length < 2 || fields[0] == null || fields[1] == null) {
+            throw new IllegalArgumentException("name and description are required");
+        }
+        TaskEntity task = new TaskEntity();
+        task.setName(fields[0]);
+        task.setDescription(fields[1]);
+        if (fields.length > 2) {
+            task.setType(fields[2]);
+        }
+        return task;
+    }
 }
@@ -0,0 +1,24 @@
+// Narrows a <select> through its server-side options endpoint as the user types into the
+// input marked with data-typeahead-url and data-typeahead-target, keeping the current selection.
+document.querySelectorAll('input[data-typeahead-url]').forEach(function (input) {
+    var select = document.getElementById(input.getAttribute('data-typeahead-target'));
+    var timer;
+    input.addEventListener('input', function () {
+        clearTimeout(timer);
+        timer = setTimeout(function () {
+            var url = input.getAttribute('data-typeahead-url') + '?q=' + encodeURIComponent(input.value);
+            fetch(url, {headers: {'Accept': 'application/json'}})
+                .then(function (response) { return response.json(); })
+                .then(function (options) {
+                    var selected = select.options[select.selectedIndex];
+                    select.innerHTML = '';
+                    if (selected && !options.some(function (option) { return String(option.id) === selected.value; })) {
+                        select.appendChild(selected);
+                    }
+                    options.forEach(function (option) {
+                        select.appendChild(new Option(option.name, option.id, false, selected && String(option.id) === selected.value));
+                    });
+                });
+        }, 250);
+    });
+});
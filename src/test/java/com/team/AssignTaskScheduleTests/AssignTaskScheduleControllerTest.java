@@ -8,11 +8,21 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.team.assignTaskSchedule.AssignTaskScheduleController;
 import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskSchedulePage;
+import com.team.assignTaskSchedule.AssignTaskScheduleRow;
+import com.team.assignTaskSchedule.BulkAssignResult;
+import com.team.assignTaskSchedule.BulkAssignRow;
 import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.AssignTaskScheduleWriteBehind;
 import com.team.assignTaskSchedule.SearchDto;
+import com.team.assignTaskSchedule.UnsupportedExportFormatException;
+import com.team.common.DataVersions;
+import com.team.common.OptionView;
 import com.team.player.PlayerEntity;
 import com.team.player.PlayerService;
 import com.team.schedule.ScheduleEntity;
@@ -26,16 +36,24 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 
     
@@ -59,6 +77,15 @@ import java.util.List;
     @Mock
     private Model model;
 
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private WebRequest webRequest;
+
+    @Mock
+    private AssignTaskScheduleWriteBehind writeBehind;
+
     @InjectMocks
     private AssignTaskScheduleController assignTaskScheduleController;
 
@@ -80,16 +107,18 @@ import java.util.List;
         // Arrange
         List<AssignTaskScheduleEntity> taskSchedules = new ArrayList<>();
         taskSchedules.add(new AssignTaskScheduleEntity()); // Add a sample task schedule
-        when(assignTaskScheduleService.getTaskSchedules()).thenReturn(taskSchedules);
+        AssignTaskSchedulePage page = new AssignTaskSchedulePage(taskSchedules, 25, null, "2025-04-01:1");
+        when(assignTaskScheduleService.getTaskSchedulePage(null, null, 25)).thenReturn(page);
 
         // Act
-        String viewName = assignTaskScheduleController.getAssignTaskSchedule(model);
+        String viewName = assignTaskScheduleController.getAssignTaskSchedule(null, null, 25, webRequest, model);
 
         // Assert
         assertEquals("AssignTaskSchedule", viewName, "The view name should be 'AssignTaskSchedule'");
         verify(model).addAttribute("assignTaskSchedules", taskSchedules);
+        verify(model).addAttribute("page", page);
         verify(model).addAttribute(eq("searchDto"), any(SearchDto.class));
-        verify(assignTaskScheduleService, times(1)).getTaskSchedules();
+        verify(assignTaskScheduleService, times(1)).getTaskSchedulePage(null, null, 25);
     }
 
      /**
@@ -100,16 +129,17 @@ import java.util.List;
     void getAssignTaskSchedule_NoTaskSchedules_ShouldReturnEmptyList() {
         // Arrange
         List<AssignTaskScheduleEntity> emptyTaskSchedules = new ArrayList<>();
-        when(assignTaskScheduleService.getTaskSchedules()).thenReturn(emptyTaskSchedules);
+        when(assignTaskScheduleService.getTaskSchedulePage(null, null, 25))
+            .thenReturn(new AssignTaskSchedulePage(emptyTaskSchedules, 25, null, null));
 
         // Act
-        String viewName = assignTaskScheduleController.getAssignTaskSchedule(model);
+        String viewName = assignTaskScheduleController.getAssignTaskSchedule(null, null, 25, webRequest, model);
 
         // Assert
         assertEquals("AssignTaskSchedule", viewName, "The view name should be 'AssignTaskSchedule'");
         verify(model).addAttribute("assignTaskSchedules", emptyTaskSchedules);
         verify(model).addAttribute(eq("searchDto"), any(SearchDto.class));
-        verify(assignTaskScheduleService, times(1)).getTaskSchedules();
+        verify(assignTaskScheduleService, times(1)).getTaskSchedulePage(null, null, 25);
     }
 
     /**
@@ -120,13 +150,33 @@ import java.util.List;
         @Test
     void getAssignTaskSchedule_ServiceThrowsException_ShouldPropagateException() {
         // Arrange
-        when(assignTaskScheduleService.getTaskSchedules()).thenThrow(new RuntimeException("Service error"));
+        when(assignTaskScheduleService.getTaskSchedulePage(null, null, 25)).thenThrow(new RuntimeException("Service error"));
 
         // Act & Assert
         RuntimeException exception = 
-            assertThrows(RuntimeException.class, () -> assignTaskScheduleController.getAssignTaskSchedule(model));
+            assertThrows(RuntimeException.class, () -> assignTaskScheduleController.getAssignTaskSchedule(null, null, 25, webRequest, model));
         assertEquals("Service error", exception.getMessage(), "The exception message should match");
-        verify(assignTaskScheduleService, times(1)).getTaskSchedules();
+        verify(assignTaskScheduleService, times(1)).getTaskSchedulePage(null, null, 25);
+    }
+
+    /**
+     * Test case: Positive scenario where the next page is requested with a cursor and a custom page size.
+     * Expected: The method should forward the cursor and page size to the service.
+     */
+    @Test
+    void getAssignTaskSchedule_WithCursor_ShouldRequestNextPage() {
+        // Arrange
+        List<AssignTaskScheduleEntity> taskSchedules = new ArrayList<>();
+        AssignTaskSchedulePage page = new AssignTaskSchedulePage(taskSchedules, 10, "2025-04-01:11", null);
+        when(assignTaskScheduleService.getTaskSchedulePage("2025-04-01:10", null, 10)).thenReturn(page);
+
+        // Act
+        String viewName = assignTaskScheduleController.getAssignTaskSchedule("2025-04-01:10", null, 10, webRequest, model);
+
+        // Assert
+        assertEquals("AssignTaskSchedule", viewName, "The view name should be 'AssignTaskSchedule'");
+        verify(model).addAttribute("page", page);
+        verify(assignTaskScheduleService, times(1)).getTaskSchedulePage("2025-04-01:10", null, 10);
     }
 
 
@@ -138,16 +188,16 @@ import java.util.List;
     @Test
     void createAssignTaskScheduleForm_ShouldReturnAddAssignTaskScheduleView_WithRequiredData() {
         // Arrange
-        List<PlayerEntity> players = new ArrayList<>();
-        players.add(new PlayerEntity()); // Add a sample player
-        List<ScheduleEntity> schedules = new ArrayList<>();
-        schedules.add(new ScheduleEntity()); // Add a sample schedule
-        List<TaskEntity> tasks = new ArrayList<>();
-        tasks.add(new TaskEntity()); // Add a sample task
+        List<OptionView> players = new ArrayList<>();
+        players.add(new OptionView(1L, "John Doe")); // Add a sample player
+        List<OptionView> schedules = new ArrayList<>();
+        schedules.add(new OptionView(1L, "Spring Camp")); // Add a sample schedule
+        List<OptionView> tasks = new ArrayList<>();
+        tasks.add(new OptionView(1L, "Warm Up")); // Add a sample task
 
-        when(playerService.getPlayers()).thenReturn(players);
-        when(scheduleService.getSchedules()).thenReturn(schedules);
-        when(taskService.getTasks()).thenReturn(tasks);
+        when(playerService.getOptions()).thenReturn(players);
+        when(scheduleService.getOptions()).thenReturn(schedules);
+        when(taskService.getOptions()).thenReturn(tasks);
 
         // Act
         String viewName = assignTaskScheduleController.createAssignTaskScheduleForm(model);
@@ -158,9 +208,9 @@ import java.util.List;
         verify(model).addAttribute("schedules", schedules);
         verify(model).addAttribute("tasks", tasks);
         verify(model).addAttribute(eq("assignTaskSchedule"), any(AssignTaskScheduleEntity.class));
-        verify(playerService, times(1)).getPlayers();
-        verify(scheduleService, times(1)).getSchedules();
-        verify(taskService, times(1)).getTasks();
+        verify(playerService, times(1)).getOptions();
+        verify(scheduleService, times(1)).getOptions();
+        verify(taskService, times(1)).getOptions();
     }
 
      /**
@@ -170,14 +220,14 @@ import java.util.List;
     @Test
     void createAssignTaskScheduleForm_PlayerServiceThrowsException_ShouldPropagateException() {
         // Arrange
-        when(playerService.getPlayers()).thenThrow(new RuntimeException("Player service error"));
+        when(playerService.getOptions()).thenThrow(new RuntimeException("Player service error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             assignTaskScheduleController.createAssignTaskScheduleForm(model)
         );
         assertEquals("Player service error", exception.getMessage(), "The exception message should match");
-        verify(playerService, times(1)).getPlayers();
+        verify(playerService, times(1)).getOptions();
         verifyNoInteractions(scheduleService, taskService);
     }
       /**
@@ -187,16 +237,16 @@ import java.util.List;
     @Test
     void createAssignTaskScheduleForm_ScheduleServiceThrowsException_ShouldPropagateException() {
         // Arrange
-        when(playerService.getPlayers()).thenReturn(new ArrayList<>());
-        when(scheduleService.getSchedules()).thenThrow(new RuntimeException("Schedule service error"));
+        when(playerService.getOptions()).thenReturn(new ArrayList<>());
+        when(scheduleService.getOptions()).thenThrow(new RuntimeException("Schedule service error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             assignTaskScheduleController.createAssignTaskScheduleForm(model)
         );
         assertEquals("Schedule service error", exception.getMessage(), "The exception message should match");
-        verify(playerService, times(1)).getPlayers();
-        verify(scheduleService, times(1)).getSchedules();
+        verify(playerService, times(1)).getOptions();
+        verify(scheduleService, times(1)).getOptions();
         verifyNoInteractions(taskService);
     }
      /**
@@ -206,18 +256,18 @@ import java.util.List;
     @Test
     void createAssignTaskScheduleForm_TaskServiceThrowsException_ShouldPropagateException() {
         // Arrange
-        when(playerService.getPlayers()).thenReturn(new ArrayList<>());
-        when(scheduleService.getSchedules()).thenReturn(new ArrayList<>());
-        when(taskService.getTasks()).thenThrow(new RuntimeException("Task service error"));
+        when(playerService.getOptions()).thenReturn(new ArrayList<>());
+        when(scheduleService.getOptions()).thenReturn(new ArrayList<>());
+        when(taskService.getOptions()).thenThrow(new RuntimeException("Task service error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             assignTaskScheduleController.createAssignTaskScheduleForm(model)
         );
         assertEquals("Task service error", exception.getMessage(), "The exception message should match");
-        verify(playerService, times(1)).getPlayers();
-        verify(scheduleService, times(1)).getSchedules();
-        verify(taskService, times(1)).getTasks();
+        verify(playerService, times(1)).getOptions();
+        verify(scheduleService, times(1)).getOptions();
+        verify(taskService, times(1)).getOptions();
     }
 
 
@@ -229,17 +279,17 @@ import java.util.List;
     void editAssignTaskScheduleForm_ShouldReturnEditAssignTaskScheduleView_WithRequiredData() {
         // Arrange
         Long id = 1L;
-        List<PlayerEntity> players = new ArrayList<>();
-        players.add(new PlayerEntity()); // Add a sample player
-        List<ScheduleEntity> schedules = new ArrayList<>();
-        schedules.add(new ScheduleEntity()); // Add a sample schedule
-        List<TaskEntity> tasks = new ArrayList<>();
-        tasks.add(new TaskEntity()); // Add a sample task
+        List<OptionView> players = new ArrayList<>();
+        players.add(new OptionView(1L, "John Doe")); // Add a sample player
+        List<OptionView> schedules = new ArrayList<>();
+        schedules.add(new OptionView(1L, "Spring Camp")); // Add a sample schedule
+        List<OptionView> tasks = new ArrayList<>();
+        tasks.add(new OptionView(1L, "Warm Up")); // Add a sample task
         AssignTaskScheduleEntity existingTaskSchedule = new AssignTaskScheduleEntity();
 
-        when(playerService.getPlayers()).thenReturn(players);
-        when(scheduleService.getSchedules()).thenReturn(schedules);
-        when(taskService.getTasks()).thenReturn(tasks);
+        when(playerService.getOptions()).thenReturn(players);
+        when(scheduleService.getOptions()).thenReturn(schedules);
+        when(taskService.getOptions()).thenReturn(tasks);
         when(assignTaskScheduleService.getById(id)).thenReturn(existingTaskSchedule);
  // Act
  String viewName = assignTaskScheduleController.editAssignTaskScheduleForm(id, model);
@@ -250,12 +300,43 @@ import java.util.List;
  verify(model).addAttribute("schedules", schedules);
  verify(model).addAttribute("tasks", tasks);
  verify(model).addAttribute("assignTaskSchedule", existingTaskSchedule);
- verify(playerService, times(1)).getPlayers();
- verify(scheduleService, times(1)).getSchedules();
- verify(taskService, times(1)).getTasks();
+ verify(playerService, times(1)).getOptions();
+ verify(scheduleService, times(1)).getOptions();
+ verify(taskService, times(1)).getOptions();
  verify(assignTaskScheduleService, times(1)).getById(id);
 }
 
+    /**
+     * Test case: Positive scenario where the assigned player is outside the first page of options.
+     * Expected: The player should be prepended so the dropdown keeps its current selection.
+     */
+    @Test
+    void editAssignTaskScheduleForm_SelectedPlayerNotInOptions_ShouldPrependIt() {
+        // Arrange
+        Long id = 1L;
+        PlayerEntity player = new PlayerEntity();
+        player.setId(500L);
+        player.setFirstName("Jane");
+        player.setLastName("Smith");
+        AssignTaskScheduleEntity existingTaskSchedule = new AssignTaskScheduleEntity();
+        existingTaskSchedule.setPlayer(player);
+        List<OptionView> players = new ArrayList<>();
+        players.add(new OptionView(1L, "John Doe"));
+
+        when(assignTaskScheduleService.getById(id)).thenReturn(existingTaskSchedule);
+        when(playerService.getOptions()).thenReturn(players);
+        when(scheduleService.getOptions()).thenReturn(new ArrayList<>());
+        when(taskService.getOptions()).thenReturn(new ArrayList<>());
+
+        // Act
+        assignTaskScheduleController.editAssignTaskScheduleForm(id, model);
+
+        // Assert
+        verify(model).addAttribute(eq("players"), argThat((List<OptionView> options) -> options.size() == 2
+                && options.get(0).equals(new OptionView(500L, "Jane Smith"))));
+        assertEquals(1, players.size(), "The cached option list should not be modified");
+    }
+
  /**
      * Test case: Negative scenario where the AssignTaskScheduleService throws an exception.
      * Expected: The method should propagate the exception.
@@ -284,7 +365,7 @@ import java.util.List;
         // Arrange
         Long id = 1L;
         when(assignTaskScheduleService.getById(id)).thenReturn(new AssignTaskScheduleEntity());
-        when(playerService.getPlayers()).thenThrow(new RuntimeException("Player service error"));
+        when(playerService.getOptions()).thenThrow(new RuntimeException("Player service error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
@@ -292,7 +373,7 @@ import java.util.List;
         );
         assertEquals("Player service error", exception.getMessage(), "The exception message should match");
       //  verify(assignTaskScheduleService, times(1)).getById(id);
-        verify(playerService, times(1)).getPlayers();
+        verify(playerService, times(1)).getOptions();
         verifyNoInteractions(scheduleService, taskService);
     }
     /**
@@ -304,8 +385,8 @@ import java.util.List;
         // Arrange
         Long id = 1L;
         when(assignTaskScheduleService.getById(id)).thenReturn(new AssignTaskScheduleEntity());
-        when(playerService.getPlayers()).thenReturn(new ArrayList<>());
-        when(scheduleService.getSchedules()).thenThrow(new RuntimeException("Schedule service error"));
+        when(playerService.getOptions()).thenReturn(new ArrayList<>());
+        when(scheduleService.getOptions()).thenThrow(new RuntimeException("Schedule service error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
@@ -313,8 +394,8 @@ import java.util.List;
         );
         assertEquals("Schedule service error", exception.getMessage(), "The exception message should match");
        // verify(assignTaskScheduleService, times(1)).getById(id);
-        verify(playerService, times(1)).getPlayers();
-        verify(scheduleService, times(1)).getSchedules();
+        verify(playerService, times(1)).getOptions();
+        verify(scheduleService, times(1)).getOptions();
         verifyNoInteractions(taskService);
     }
       /**
@@ -326,9 +407,9 @@ import java.util.List;
         // Arrange
         Long id = 1L;
         when(assignTaskScheduleService.getById(id)).thenReturn(new AssignTaskScheduleEntity());
-        when(playerService.getPlayers()).thenReturn(new ArrayList<>());
-        when(scheduleService.getSchedules()).thenReturn(new ArrayList<>());
-        when(taskService.getTasks()).thenThrow(new RuntimeException("Task service error"));
+        when(playerService.getOptions()).thenReturn(new ArrayList<>());
+        when(scheduleService.getOptions()).thenReturn(new ArrayList<>());
+        when(taskService.getOptions()).thenThrow(new RuntimeException("Task service error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
@@ -336,9 +417,9 @@ import java.util.List;
         );
         assertEquals("Task service error", exception.getMessage(), "The exception message should match");
       //  verify(assignTaskScheduleService, times(1)).getById(id);
-        verify(playerService, times(1)).getPlayers();
-        verify(scheduleService, times(1)).getSchedules();
-        verify(taskService, times(1)).getTasks();
+        verify(playerService, times(1)).getOptions();
+        verify(scheduleService, times(1)).getOptions();
+        verify(taskService, times(1)).getOptions();
     }
 
 
@@ -391,6 +472,30 @@ import java.util.List;
         verify(assignTaskScheduleService, times(1)).create(assignTaskSchedule);
     }
 
+    /**
+     * Test case: Positive scenario where write-behind is enabled.
+     * Expected: The assignment should go through the write-behind queue instead of a transaction of its own.
+     */
+    @Test
+    void createAssignTaskSchedule_WriteBehindEnabled_ShouldQueueAssignment() {
+        // Arrange
+        AssignTaskScheduleEntity assignTaskSchedule = new AssignTaskScheduleEntity();
+        ScheduleEntity schedule = new ScheduleEntity();
+        schedule.setStartDate(LocalDate.of(2025, 4, 1));
+        schedule.setEndDate(LocalDate.of(2025, 4, 30));
+        assignTaskSchedule.setSchedule(schedule);
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.create(assignTaskSchedule)).thenReturn(assignTaskSchedule);
+
+        // Act
+        String viewName = assignTaskScheduleController.createAssignTaskSchedule(assignTaskSchedule);
+
+        // Assert
+        assertEquals("redirect:/", viewName, "The method should redirect to the root URL");
+        verify(writeBehind, times(1)).create(assignTaskSchedule);
+        verify(assignTaskScheduleService, never()).create(any());
+    }
+
   /**
      * Test case: Negative scenario where the schedule is null.
      * Expected: The method should handle the null schedule gracefully.
@@ -422,34 +527,26 @@ import java.util.List;
     void createAssignTaskSchedule_ShouldRedirectToRoot_WhenUpdateIsSuccessful() {
         // Arrange
         Long id = 1L;
-        AssignTaskScheduleEntity existingAssignTaskSchedule = new AssignTaskScheduleEntity();
-        existingAssignTaskSchedule.setId(id);
-        existingAssignTaskSchedule.setTask(new TaskEntity());
-        existingAssignTaskSchedule.setPlayer(new PlayerEntity());
-        existingAssignTaskSchedule.setSchedule(new ScheduleEntity());
-        existingAssignTaskSchedule.setStartDate(LocalDate.of(2025, 4, 1));
-        existingAssignTaskSchedule.setEndDate(LocalDate.of(2025, 4, 30));
-
         AssignTaskScheduleEntity updatedAssignTaskSchedule = new AssignTaskScheduleEntity();
         updatedAssignTaskSchedule.setTask(new TaskEntity());
         updatedAssignTaskSchedule.setPlayer(new PlayerEntity());
         updatedAssignTaskSchedule.setSchedule(new ScheduleEntity());
         updatedAssignTaskSchedule.getSchedule().setStartDate(LocalDate.of(2025, 5, 1));
         updatedAssignTaskSchedule.getSchedule().setEndDate(LocalDate.of(2025, 5, 31));
-        when(assignTaskScheduleService.getById(id)).thenReturn(existingAssignTaskSchedule);
-        when(assignTaskScheduleService.create(existingAssignTaskSchedule)).thenReturn(existingAssignTaskSchedule);
+        updatedAssignTaskSchedule.setVersion(2L);
 
         // Act
         String viewName = assignTaskScheduleController.createAssignTaskSchedule(id, updatedAssignTaskSchedule);
 
         // Assert
         assertEquals("redirect:/", viewName, "The method should redirect to the root URL");
-        verify(assignTaskScheduleService, times(1)).getById(id);
-        verify(assignTaskScheduleService, times(1)).create(existingAssignTaskSchedule);
+        verify(assignTaskScheduleService, times(1)).update(id, updatedAssignTaskSchedule);
+        verify(assignTaskScheduleService, never()).getById(any());
+        verify(assignTaskScheduleService, never()).create(any());
 
-        assertEquals(LocalDate.of(2025, 5, 1), existingAssignTaskSchedule.getStartDate(), "The start date should be updated");
-        assertEquals(LocalDate.of(2025, 5, 31), existingAssignTaskSchedule.getEndDate(), "The end date should be updated");
-        assertNotNull(existingAssignTaskSchedule.getUpdatedOn(), "The updatedOn field should be set");
+        assertEquals(LocalDate.of(2025, 5, 1), updatedAssignTaskSchedule.getStartDate(), "The start date should be updated");
+        assertEquals(LocalDate.of(2025, 5, 31), updatedAssignTaskSchedule.getEndDate(), "The end date should be updated");
+        assertNotNull(updatedAssignTaskSchedule.getUpdatedOn(), "The updatedOn field should be set");
     }
 
   /**
@@ -465,14 +562,15 @@ import java.util.List;
         updatedAssignTaskSchedule.setPlayer(new PlayerEntity());
         updatedAssignTaskSchedule.setSchedule(new ScheduleEntity());
 
-        when(assignTaskScheduleService.getById(id)).thenThrow(new RuntimeException("AssignTaskSchedule not found"));
+        doThrow(new NoSuchElementException("AssignTaskSchedule not found"))
+                .when(assignTaskScheduleService).update(id, updatedAssignTaskSchedule);
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             assignTaskScheduleController.createAssignTaskSchedule(id, updatedAssignTaskSchedule)
         );
         assertEquals("AssignTaskSchedule not found", exception.getMessage(), "The exception message should match");
-        verify(assignTaskScheduleService, times(1)).getById(id);
+        verify(assignTaskScheduleService, times(1)).update(id, updatedAssignTaskSchedule);
         verify(assignTaskScheduleService, never()).create(any());
     }
 
@@ -569,29 +667,83 @@ import java.util.List;
     }
 
      /**
-     * Test case: Negative scenario where the search criteria are invalid (e.g., null dates).
-     * Expected: The method should handle invalid search criteria gracefully.
+     * Test case: Negative scenario where the search criteria are empty (e.g., null dates).
+     * Expected: The method should redirect to the paginated list instead of searching the whole table.
      */
     @Test
-    void searchSchedule_InvalidSearchCriteria_ShouldHandleGracefully() {
+    void searchSchedule_BlankSearchCriteria_ShouldRedirectToPagedList() {
         // Arrange
         SearchDto searchDto = new SearchDto();
         searchDto.setStartDateStr(null);
-        searchDto.setEndDateStr(null);
+        searchDto.setEndDateStr(" ");
+
+        // Act
+        String viewName = assignTaskScheduleController.searchSchedule(searchDto, model);
 
-        List<AssignTaskScheduleEntity> allTaskSchedules = new ArrayList<>();
-        allTaskSchedules.add(new AssignTaskScheduleEntity()); // Add a sample task schedule
+        // Assert
+        assertEquals("redirect:/", viewName, "A blank search should redirect to the paginated list");
+        verifyNoInteractions(assignTaskScheduleService);
+        verifyNoInteractions(model);
+    }
 
-        when(assignTaskScheduleService.findByDateBetween(searchDto)).thenReturn(allTaskSchedules);
+    /**
+     * Test case: Positive scenario where one task and schedule are bulk-assigned to a list of players.
+     * Expected: The method should build one numbered row per player and return the service results.
+     */
+    @Test
+    void bulkCreateAssignTaskSchedules_ShouldBuildOneRowPerPlayer() {
+        // Arrange
+        List<BulkAssignResult> results = new ArrayList<>();
+        when(assignTaskScheduleService.bulkCreate(any())).thenReturn(results);
 
         // Act
-        String viewName = assignTaskScheduleController.searchSchedule(searchDto, model);
-  // Assert
-  assertEquals("AssignTaskSchedule", viewName, "The view name should be 'AssignTaskSchedule'");
-  verify(model).addAttribute("assignTaskSchedules", allTaskSchedules);
-  verify(model).addAttribute("searchDto", searchDto);
-  verify(assignTaskScheduleService, times(1)).findByDateBetween(searchDto);
-}
+        List<BulkAssignResult> response = assignTaskScheduleController.bulkCreateAssignTaskSchedules(2L, 3L, Arrays.asList(5L, 6L));
+
+        // Assert
+        assertEquals(results, response, "The service results should be returned");
+        verify(assignTaskScheduleService, times(1)).bulkCreate(Arrays.asList(
+            new BulkAssignRow(1, 5L, 2L, 3L),
+            new BulkAssignRow(2, 6L, 2L, 3L)));
     }
-    
 
+    /**
+     * Test case: Positive scenario where assignments are exported as CSV.
+     * Expected: The streamed body should contain the header followed by one line per row.
+     */
+    @Test
+    void exportAssignTaskSchedules_Csv_ShouldStreamHeaderAndRows() throws Exception {
+        // Arrange
+        LocalDate startDate = LocalDate.of(2025, 4, 1);
+        doAnswer(invocation -> {
+            Consumer<AssignTaskScheduleRow> consumer = invocation.getArgument(2);
+            consumer.accept(new AssignTaskScheduleRow(1L, 5L, "Jane", "Doe, Jr", 2L, "Drills", 3L, "Spring",
+                startDate, LocalDate.of(2025, 4, 30)));
+            return null;
+        }).when(assignTaskScheduleService).exportOverlapping(eq(startDate), eq(null), any());
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+            assignTaskScheduleController.exportAssignTaskSchedules(startDate, null, "csv");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "The export should succeed");
+        String[] lines = output.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertEquals(2, lines.length, "The export should contain a header and one row");
+        assertEquals("1,5,Jane,\"Doe, Jr\",2,Drills,3,Spring,2025-04-01,2025-04-30", lines[1],
+            "Fields containing commas should be quoted");
+    }
+
+    /**
+     * Test case: Negative scenario where an export format other than csv or ndjson is requested.
+     * Expected: The request should be rejected instead of silently falling back to CSV.
+     */
+    @Test
+    void exportAssignTaskSchedules_UnknownFormat_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(UnsupportedExportFormatException.class, () ->
+            assignTaskScheduleController.exportAssignTaskSchedules(null, null, "json"));
+        verifyNoInteractions(assignTaskScheduleService);
+    }
+    }
@@ -0,0 +1,202 @@
+package com.team.AssignTaskScheduleTests;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskScheduleRepository;
+import com.team.player.PlayerEntity;
+import com.team.schedule.ScheduleEntity;
+import com.team.task.TaskEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for AssignTaskScheduleRepository
+ * Verifies that list and search queries load an assignment page with a constant number of statements
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AssignTaskScheduleRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssignTaskScheduleRepository assignTaskScheduleRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Test case: Positive scenario where every assignment references its own player, task and schedule.
+     * Expected: findAll should issue a single statement regardless of the number of rows rendered.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void findAll_ShouldUseSingleStatement_ForAnyNumberOfRows(int rows) {
+        // Arrange
+        persistAssignments(rows);
+
+        // Act
+        List<AssignTaskScheduleEntity> result = assignTaskScheduleRepository.findAll();
+        render(result);
+
+        // Assert
+        assertEquals(rows, result.size(), "All assignments should be returned");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Rendering should not trigger per-row selects");
+    }
+
+    /**
+     * Test case: Positive scenario where a keyset page is rendered.
+     * Expected: The page query should fetch associations in the same statement.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void findFirstPage_ShouldUseSingleStatement_ForAnyNumberOfRows(int rows) {
+        // Arrange
+        persistAssignments(rows);
+
+        // Act
+        List<AssignTaskScheduleEntity> result = assignTaskScheduleRepository.findFirstPage(PageRequest.of(0, rows));
+        render(result);
+
+        // Assert
+        assertEquals(rows, result.size(), "The full page should be returned");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Rendering should not trigger per-row selects");
+    }
+
+    /**
+     * Test case: Positive scenario where the date range search is rendered.
+     * Expected: The search query should fetch associations in the same statement.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void findOverlapping_ShouldUseSingleStatement_ForAnyNumberOfRows(int rows) {
+        // Arrange
+        persistAssignments(rows);
+
+        // Act
+        List<AssignTaskScheduleEntity> result = assignTaskScheduleRepository.findOverlapping(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        render(result);
+
+        // Assert
+        assertEquals(rows, result.size(), "All assignments in range should be returned");
+        assertEquals(1, statistics.getPrepareStatementCount(), "Rendering should not trigger per-row selects");
+    }
+
+    /**
+     * Test case: Positive scenario where an assignment started before the window and is still running.
+     * Expected: The overlap query should include it and exclude assignments that ended before the window.
+     */
+    @Test
+    void findOverlapping_ShouldIncludeAssignmentsRunningIntoWindow() {
+        // Arrange
+        persistAssignments(1);
+        List<AssignTaskScheduleEntity> inApril = assignTaskScheduleRepository.findOverlapping(
+                LocalDate.of(2025, 4, 15), LocalDate.of(2025, 5, 15));
+        List<AssignTaskScheduleEntity> inMay = assignTaskScheduleRepository.findOverlapping(
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31));
+
+        // Assert
+        assertEquals(1, inApril.size(), "An assignment running into the window should be returned");
+        assertEquals(0, inMay.size(), "An assignment that ended before the window should not be returned");
+    }
+
+    /**
+     * Test case: Positive scenario where some assignments have no start date.
+     * Expected: Undated assignments should sort first and every keyset query should step across them in order.
+     */
+    @Test
+    void keysetPages_WithUndatedAssignments_ShouldPageAcrossThem() {
+        // Arrange
+        persistAssignments(2);
+        Long undated1 = persistUndatedAssignment();
+        Long undated2 = persistUndatedAssignment();
+        List<AssignTaskScheduleEntity> all = assignTaskScheduleRepository.findFirstPage(PageRequest.of(0, 10));
+        PageRequest page = PageRequest.of(0, 10);
+
+        // Act
+        List<AssignTaskScheduleEntity> afterUndated = assignTaskScheduleRepository.findPageAfterUndated(undated1, page);
+        List<AssignTaskScheduleEntity> beforeUndated = assignTaskScheduleRepository.findPageBeforeUndated(undated2, page);
+        List<AssignTaskScheduleEntity> beforeDated = assignTaskScheduleRepository.findPageBefore(
+                all.get(2).getStartDate(), all.get(2).getId(), page);
+
+        // Assert
+        assertEquals(List.of(undated1, undated2), ids(all.subList(0, 2)), "Undated assignments should sort first");
+        assertEquals(ids(all.subList(1, 4)), ids(afterUndated), "The page after should continue into dated ones");
+        assertEquals(List.of(undated1), ids(beforeUndated), "The page before should hold earlier undated ones");
+        assertEquals(List.of(undated2, undated1), ids(beforeDated), "The first dated page should lead back to undated ones");
+    }
+
+    private Long persistUndatedAssignment() {
+        AssignTaskScheduleEntity assignTaskSchedule = new AssignTaskScheduleEntity();
+        entityManager.persist(assignTaskSchedule);
+        entityManager.flush();
+        entityManager.clear();
+        return assignTaskSchedule.getId();
+    }
+
+    private static List<Long> ids(List<AssignTaskScheduleEntity> assignTaskSchedules) {
+        return assignTaskSchedules.stream().map(AssignTaskScheduleEntity::getId).collect(Collectors.toList());
+    }
+
+    private void persistAssignments(int rows) {
+        for (int i = 0; i < rows; i++) {
+            PlayerEntity player = new PlayerEntity();
+            player.setFirstName("First" + i);
+            player.setLastName("Last" + i);
+            player.setEmail("player" + i + "@team.com");
+            entityManager.persist(player);
+
+            TaskEntity task = new TaskEntity();
+            task.setName("Task" + i);
+            task.setDescription("Description" + i);
+            entityManager.persist(task);
+
+            ScheduleEntity schedule = new ScheduleEntity();
+            schedule.setName("Schedule" + i);
+            schedule.setDescription("Description" + i);
+            schedule.setStartDate(LocalDate.of(2025, 4, 1));
+            schedule.setEndDate(LocalDate.of(2025, 4, 30));
+            entityManager.persist(schedule);
+
+            AssignTaskScheduleEntity assignTaskSchedule = new AssignTaskScheduleEntity();
+            assignTaskSchedule.setPlayer(player);
+            assignTaskSchedule.setTask(task);
+            assignTaskSchedule.setSchedule(schedule);
+            assignTaskSchedule.setStartDate(schedule.getStartDate());
+            assignTaskSchedule.setEndDate(schedule.getEndDate());
+            entityManager.persist(assignTaskSchedule);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void render(List<AssignTaskScheduleEntity> assignTaskSchedules) {
+        // Touch the same properties AssignTaskSchedule.html reads
+        for (AssignTaskScheduleEntity assignTaskSchedule : assignTaskSchedules) {
+            assignTaskSchedule.getPlayer().getFirstName();
+            assignTaskSchedule.getSchedule().getName();
+            assignTaskSchedule.getTask().getName();
+        }
+    }
+}
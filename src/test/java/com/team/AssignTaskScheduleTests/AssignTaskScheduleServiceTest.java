@@ -7,12 +7,37 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskScheduleIntervalIndex;
+import com.team.assignTaskSchedule.AssignTaskSchedulePage;
 import com.team.assignTaskSchedule.AssignTaskScheduleRepository;
+import com.team.assignTaskSchedule.AssignTaskScheduleRow;
 import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.AssignmentConflictException;
+import com.team.assignTaskSchedule.BulkAssignResult;
+import com.team.assignTaskSchedule.BulkAssignRow;
+import com.team.assignTaskSchedule.AvailablePlayersView;
+import com.team.assignTaskSchedule.InvalidCursorException;
+import com.team.assignTaskSchedule.InvalidDateRangeException;
+import com.team.assignTaskSchedule.InvalidSearchDateException;
+import com.team.assignTaskSchedule.PlayerAvailabilityIndex;
 import com.team.assignTaskSchedule.SearchDto;
-
+import com.team.common.DataVersions;
+import com.team.common.OptionView;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerRepository;
+import com.team.schedule.ScheduleEntity;
+import com.team.schedule.ScheduleRepository;
+import com.team.task.TaskEntity;
+import com.team.task.TaskRepository;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManager;
+import java.io.StringReader;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +56,27 @@ public class AssignTaskScheduleServiceTest {
     @Mock
     private AssignTaskScheduleRepository assignTaskScheduleRepository;
 
+    @Mock
+    private AssignTaskScheduleIntervalIndex intervalIndex;
+
+    @Mock
+    private PlayerAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private DataVersions dataVersions;
+
     @InjectMocks
     private AssignTaskScheduleService assignTaskScheduleService;
 
@@ -211,7 +257,7 @@ public class AssignTaskScheduleServiceTest {
 
      /**
      * Test case: Positive scenario where task schedules are retrieved successfully within the date range.
-     * Expected: The method should return a list of task schedules within the specified date range.
+     * Expected: The method should return a list of task schedules overlapping the specified date range.
      */
     @Test
     void findByDateBetween_ShouldReturnTaskSchedulesWithinDateRange() {
@@ -226,14 +272,14 @@ public class AssignTaskScheduleServiceTest {
         List<AssignTaskScheduleEntity> taskSchedules = new ArrayList<>();
         taskSchedules.add(new AssignTaskScheduleEntity()); // Add a sample task schedule
 
-        when(assignTaskScheduleRepository.findByStartDateBetween(startDate, endDate)).thenReturn(taskSchedules);
+        when(assignTaskScheduleRepository.findOverlapping(startDate, endDate)).thenReturn(taskSchedules);
 // Act
 List<AssignTaskScheduleEntity> result = assignTaskScheduleService.findByDateBetween(searchDto);
 
 // Assert
 assertNotNull(result, "The result should not be null");
 assertEquals(1, result.size(), "The result size should match the expected size");
-verify(assignTaskScheduleRepository, times(1)).findByStartDateBetween(startDate, endDate);
+verify(assignTaskScheduleRepository, times(1)).findOverlapping(startDate, endDate);
 }
     
 
@@ -253,57 +299,58 @@ verify(assignTaskScheduleRepository, times(1)).findByStartDateBetween(startDate,
 
         List<AssignTaskScheduleEntity> emptyTaskSchedules = new ArrayList<>();
 
-        when(assignTaskScheduleRepository.findByStartDateBetween(startDate, endDate)).thenReturn(emptyTaskSchedules);
+        when(assignTaskScheduleRepository.findOverlapping(startDate, endDate)).thenReturn(emptyTaskSchedules);
   // Act
   List<AssignTaskScheduleEntity> result = assignTaskScheduleService.findByDateBetween(searchDto);
 
   // Assert
   assertNotNull(result, "The result should not be null");
   assertEquals(0, result.size(), "The result size should be zero");
-  verify(assignTaskScheduleRepository, times(1)).findByStartDateBetween(startDate, endDate);
+  verify(assignTaskScheduleRepository, times(1)).findOverlapping(startDate, endDate);
 }
 /**
      * Test case: Negative scenario where the search DTO contains invalid date strings.
-     * Expected: The method should throw a DateTimeParseException.
+     * Expected: The method should throw an InvalidSearchDateException, which renders as 400.
      */
     @Test
-    void findByDateBetween_InvalidDateStrings_ShouldThrowDateTimeParseException() {
+    void findByDateBetween_InvalidDateStrings_ShouldThrowInvalidSearchDateException() {
         // Arrange
         SearchDto searchDto = new SearchDto();
         searchDto.setStartDateStr("invalid-date");
         searchDto.setEndDateStr("invalid-date");
 
         // Act & Assert
-        assertThrows(java.time.format.DateTimeParseException.class, () -> 
+        assertThrows(InvalidSearchDateException.class, () -> 
             assignTaskScheduleService.findByDateBetween(searchDto),
-            "The method should throw a DateTimeParseException for invalid date strings"
+            "The method should throw an InvalidSearchDateException for invalid date strings"
         );
         verifyNoInteractions(assignTaskScheduleRepository);
     }
 
      /**
      * Test case: Negative scenario where the start date or end date is null.
-     * Expected: The method should return all task schedules.
+     * Expected: The method should return the first page of task schedules instead of loading the whole table.
      */
-   /*  @Test
-    void findByDateBetween_NullDates_ShouldReturnAllTaskSchedules() {
+    @Test
+    void findByDateBetween_NullDates_ShouldReturnFirstPageOnly() {
         // Arrange
         SearchDto searchDto = new SearchDto();
         searchDto.setStartDateStr(null);
         searchDto.setEndDateStr(null);
 
-        List<AssignTaskScheduleEntity> allTaskSchedules = new ArrayList<>();
-        allTaskSchedules.add(new AssignTaskScheduleEntity()); // Add a sample task schedule
+        List<AssignTaskScheduleEntity> firstPage = new ArrayList<>();
+        firstPage.add(new AssignTaskScheduleEntity()); // Add a sample task schedule
 
-        when(assignTaskScheduleRepository.findAll()).thenReturn(allTaskSchedules);
+        when(assignTaskScheduleRepository.findFirstPage(any(Pageable.class))).thenReturn(firstPage);
 // Act
 List<AssignTaskScheduleEntity> result = assignTaskScheduleService.findByDateBetween(searchDto);
 
 // Assert
 assertNotNull(result, "The result should not be null");
 assertEquals(1, result.size(), "The result size should match the expected size");
-verify(assignTaskScheduleRepository, times(1)).findAll();
-} */
+verify(assignTaskScheduleRepository, times(1)).findFirstPage(argThat(pageable -> pageable.getPageSize() == 500));
+verify(assignTaskScheduleRepository, never()).findAll();
+}
 
   /**
      * Test case: Negative scenario where the repository throws an exception.
@@ -319,14 +366,14 @@ verify(assignTaskScheduleRepository, times(1)).findAll();
         LocalDate startDate = LocalDate.parse("2025-04-01");
         LocalDate endDate = LocalDate.parse("2025-04-30");
 
-        when(assignTaskScheduleRepository.findByStartDateBetween(startDate, endDate))
+        when(assignTaskScheduleRepository.findOverlapping(startDate, endDate))
             .thenThrow(new RuntimeException("Repository error"));
   // Act & Assert
   RuntimeException exception = assertThrows(RuntimeException.class, () -> 
   assignTaskScheduleService.findByDateBetween(searchDto)
 );
 assertEquals("Repository error", exception.getMessage(), "The exception message should match");
-verify(assignTaskScheduleRepository, times(1)).findByStartDateBetween(startDate, endDate);
+verify(assignTaskScheduleRepository, times(1)).findOverlapping(startDate, endDate);
 }
 
 
@@ -355,4 +402,400 @@ verify(assignTaskScheduleRepository, times(1)).findByStartDateBetween(startDate,
 
     
     
+    /**
+     * Test case: Positive scenario where the first page is requested and more rows exist.
+     * Expected: The method should trim the look-ahead row and expose a next cursor only.
+     */
+    @Test
+    void getTaskSchedulePage_FirstPage_ShouldReturnNextCursor() {
+        // Arrange
+        List<AssignTaskScheduleEntity> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            AssignTaskScheduleEntity row = new AssignTaskScheduleEntity();
+            row.setId(id);
+            row.setStartDate(LocalDate.of(2025, 4, (int) id));
+            rows.add(row);
+        }
+        when(assignTaskScheduleRepository.findFirstPage(any(Pageable.class))).thenReturn(rows);
+
+        // Act
+        AssignTaskSchedulePage page = assignTaskScheduleService.getTaskSchedulePage(null, null, 2);
+
+        // Assert
+        assertEquals(2, page.getContent().size(), "The look-ahead row should not be rendered");
+        assertFalse(page.hasPrevious(), "The first page should not have a previous cursor");
+        assertEquals("2025-04-02:2", page.getNextCursor(), "The next cursor should point at the last row");
+        verify(assignTaskScheduleRepository, never()).findAll();
+    }
+
+    /**
+     * Test case: Positive scenario where the page before a cursor is requested.
+     * Expected: The method should seek backwards and return rows in ascending order.
+     */
+    @Test
+    void getTaskSchedulePage_BeforeCursor_ShouldReturnRowsInAscendingOrder() {
+        // Arrange
+        List<AssignTaskScheduleEntity> rows = new ArrayList<>();
+        for (long id = 4; id >= 3; id--) {
+            AssignTaskScheduleEntity row = new AssignTaskScheduleEntity();
+            row.setId(id);
+            row.setStartDate(LocalDate.of(2025, 4, (int) id));
+            rows.add(row);
+        }
+        when(assignTaskScheduleRepository.findPageBefore(eq(LocalDate.of(2025, 4, 5)), eq(5L), any(Pageable.class)))
+            .thenReturn(rows);
+
+        // Act
+        AssignTaskSchedulePage page = assignTaskScheduleService.getTaskSchedulePage(null, "2025-04-05:5", 2);
+
+        // Assert
+        assertEquals(3L, page.getContent().get(0).getId(), "Rows should be returned in ascending order");
+        assertFalse(page.hasPrevious(), "No rows exist before the page");
+        assertEquals("2025-04-04:4", page.getNextCursor(), "The next cursor should point at the last row");
+    }
+
+    /**
+     * Test case: Positive scenario where the page ends on an assignment without a start date.
+     * Expected: The next cursor should encode the missing date, and following it should seek past the undated row.
+     */
+    @Test
+    void getTaskSchedulePage_UndatedLastRow_ShouldRoundTripCursor() {
+        // Arrange
+        List<AssignTaskScheduleEntity> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            AssignTaskScheduleEntity row = new AssignTaskScheduleEntity();
+            row.setId(id);
+            rows.add(row);
+        }
+        when(assignTaskScheduleRepository.findFirstPage(any(Pageable.class))).thenReturn(rows);
+        when(assignTaskScheduleRepository.findPageAfterUndated(eq(2L), any(Pageable.class))).thenReturn(rows.subList(2, 3));
+
+        // Act
+        AssignTaskSchedulePage first = assignTaskScheduleService.getTaskSchedulePage(null, null, 2);
+        AssignTaskSchedulePage second = assignTaskScheduleService.getTaskSchedulePage(first.getNextCursor(), null, 2);
+
+        // Assert
+        assertEquals(":2", first.getNextCursor(), "The cursor should encode the missing start date");
+        assertEquals(3L, second.getContent().get(0).getId(), "The next page should start after the undated row");
+        assertEquals(":3", second.getPreviousCursor(), "The previous cursor should point at the first row");
+    }
+
+    /**
+     * Test case: Negative scenario where the cursor is malformed.
+     * Expected: The method should throw an InvalidCursorException, which renders as 400.
+     */
+    @Test
+    void getTaskSchedulePage_InvalidCursor_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () ->
+            assignTaskScheduleService.getTaskSchedulePage("not-a-cursor", null, 25)
+        );
+        verifyNoInteractions(assignTaskScheduleRepository);
+    }
+
+    /**
+     * Test case: Negative scenario where the cursor has the right shape but an invalid date or id.
+     * Expected: The method should throw an InvalidCursorException instead of a DateTimeParseException or
+     * NumberFormatException, which would render as 500.
+     */
+    @Test
+    void getTaskSchedulePage_MalformedCursorParts_ShouldThrowInvalidCursorException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () ->
+            assignTaskScheduleService.getTaskSchedulePage("2025-13-01:5", null, 25)
+        );
+        assertThrows(InvalidCursorException.class, () ->
+            assignTaskScheduleService.getTaskSchedulePage(null, "2025-04-01:x", 25)
+        );
+        verifyNoInteractions(assignTaskScheduleRepository);
+    }
+
+    /**
+     * Test case: Positive scenario where only the end date is given.
+     * Expected: The method should search an open-ended window instead of failing to parse the blank start date.
+     */
+    @Test
+    void findByDateBetween_BlankStartDate_ShouldSearchOpenEndedWindow() {
+        // Arrange
+        SearchDto searchDto = new SearchDto();
+        searchDto.setStartDateStr("");
+        searchDto.setEndDateStr("2025-04-30");
+
+        List<AssignTaskScheduleEntity> taskSchedules = new ArrayList<>();
+        taskSchedules.add(new AssignTaskScheduleEntity());
+        when(assignTaskScheduleRepository.findOverlapping(LocalDate.of(1, 1, 1), LocalDate.parse("2025-04-30")))
+            .thenReturn(taskSchedules);
+
+        // Act
+        List<AssignTaskScheduleEntity> result = assignTaskScheduleService.findByDateBetween(searchDto);
+
+        // Assert
+        assertEquals(1, result.size(), "The result size should match the expected size");
+        verify(assignTaskScheduleRepository, times(1)).findOverlapping(LocalDate.of(1, 1, 1), LocalDate.parse("2025-04-30"));
+    }
+
+    /**
+     * Test case: Positive scenario where the interval index has been loaded.
+     * Expected: The method should load only the assignments the index reports as overlapping.
+     */
+    @Test
+    void findByDateBetween_IndexReady_ShouldLoadOverlappingIdsOnly() {
+        // Arrange
+        SearchDto searchDto = new SearchDto();
+        searchDto.setStartDateStr("2025-04-01");
+        searchDto.setEndDateStr("2025-04-30");
+
+        LocalDate startDate = LocalDate.parse("2025-04-01");
+        LocalDate endDate = LocalDate.parse("2025-04-30");
+        List<Long> ids = Arrays.asList(3L, 7L);
+        List<AssignTaskScheduleEntity> taskSchedules = new ArrayList<>();
+        taskSchedules.add(new AssignTaskScheduleEntity());
+        taskSchedules.add(new AssignTaskScheduleEntity());
+
+        when(intervalIndex.isReady()).thenReturn(true);
+        when(intervalIndex.findOverlapping(startDate, endDate)).thenReturn(ids);
+        when(assignTaskScheduleRepository.findByIdInOrderByStartDate(ids)).thenReturn(taskSchedules);
+
+        // Act
+        List<AssignTaskScheduleEntity> result = assignTaskScheduleService.findByDateBetween(searchDto);
+
+        // Assert
+        assertEquals(2, result.size(), "The result size should match the expected size");
+        verify(assignTaskScheduleRepository, never()).findOverlapping(any(), any());
+    }
+
+    /**
+     * Test case: Negative scenario where the start date is after the end date.
+     * Expected: The method should return an empty list without querying.
+     */
+    @Test
+    void findByDateBetween_InvertedRange_ShouldReturnEmptyList() {
+        // Arrange
+        SearchDto searchDto = new SearchDto();
+        searchDto.setStartDateStr("2025-05-01");
+        searchDto.setEndDateStr("2025-04-01");
+
+        // Act
+        List<AssignTaskScheduleEntity> result = assignTaskScheduleService.findByDateBetween(searchDto);
+
+        // Assert
+        assertTrue(result.isEmpty(), "The result should be empty");
+        verifyNoInteractions(assignTaskScheduleRepository);
+    }
+
+    /**
+     * Test case: Positive scenario where the player has no overlapping assignment.
+     * Expected: The method should lock the player row, check the database and save the assignment.
+     */
+    @Test
+    void create_NoConflict_ShouldLockPlayerAndSave() {
+        // Arrange
+        AssignTaskScheduleEntity assignTaskSchedule = bookedAssignment(null);
+        when(assignTaskScheduleRepository.existsOverlappingForPlayer(5L, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), -1L))
+            .thenReturn(false);
+        when(assignTaskScheduleRepository.save(assignTaskSchedule)).thenReturn(assignTaskSchedule);
+
+        // Act
+        AssignTaskScheduleEntity result = assignTaskScheduleService.create(assignTaskSchedule);
+
+        // Assert
+        assertNotNull(result, "The result should not be null");
+        verify(playerRepository, times(1)).findByIdForUpdate(5L);
+        verify(assignTaskScheduleRepository, times(1)).save(assignTaskSchedule);
+    }
+
+    /**
+     * Test case: Negative scenario where the interval index already holds an overlapping booking.
+     * Expected: The method should throw an AssignmentConflictException without touching the database.
+     */
+    @Test
+    void create_ConflictInIndex_ShouldThrowWithoutSaving() {
+        // Arrange
+        AssignTaskScheduleEntity assignTaskSchedule = bookedAssignment(null);
+        when(intervalIndex.hasConflict(5L, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), null)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(AssignmentConflictException.class, () -> assignTaskScheduleService.create(assignTaskSchedule));
+        verifyNoInteractions(playerRepository);
+        verify(assignTaskScheduleRepository, never()).save(any());
+    }
+
+    /**
+     * Test case: Negative scenario where another node booked the player, so only the database sees the overlap.
+     * Expected: The method should throw an AssignmentConflictException and not save.
+     */
+    @Test
+    void create_ConflictInDatabase_ShouldThrowWithoutSaving() {
+        // Arrange
+        AssignTaskScheduleEntity assignTaskSchedule = bookedAssignment(9L);
+        when(assignTaskScheduleRepository.existsOverlappingForPlayer(5L, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), 9L))
+            .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(AssignmentConflictException.class, () -> assignTaskScheduleService.create(assignTaskSchedule));
+        verify(playerRepository, times(1)).findByIdForUpdate(5L);
+        verify(assignTaskScheduleRepository, never()).save(any());
+    }
+
+    private AssignTaskScheduleEntity bookedAssignment(Long id) {
+        PlayerEntity player = new PlayerEntity();
+        player.setId(5L);
+        AssignTaskScheduleEntity assignTaskSchedule = new AssignTaskScheduleEntity();
+        assignTaskSchedule.setId(id);
+        assignTaskSchedule.setPlayer(player);
+        assignTaskSchedule.setStartDate(LocalDate.of(2025, 4, 1));
+        assignTaskSchedule.setEndDate(LocalDate.of(2025, 4, 30));
+        return assignTaskSchedule;
+    }
+
+    /**
+     * Test case: Positive scenario where a task and schedule are bulk-assigned to several players.
+     * Expected: Known players are created, unknown and double-booked players are rejected per row.
+     */
+    @Test
+    void bulkCreate_ShouldReturnPerRowResults() {
+        // Arrange
+        PlayerEntity player = new PlayerEntity();
+        player.setId(5L);
+        TaskEntity task = new TaskEntity();
+        task.setId(2L);
+        ScheduleEntity schedule = new ScheduleEntity();
+        schedule.setId(3L);
+        schedule.setStartDate(LocalDate.of(2025, 4, 1));
+        schedule.setEndDate(LocalDate.of(2025, 4, 30));
+        when(scheduleRepository.findAllById(any())).thenReturn(Arrays.asList(schedule));
+        when(taskRepository.findAllById(any())).thenReturn(Arrays.asList(task));
+        when(playerRepository.findAllByIdForUpdate(any())).thenReturn(Arrays.asList(player));
+        when(assignTaskScheduleRepository.save(any(AssignTaskScheduleEntity.class))).thenAnswer(invocation -> {
+            AssignTaskScheduleEntity saved = invocation.getArgument(0);
+            saved.setId(100L);
+            return saved;
+        });
+        List<BulkAssignRow> rows = Arrays.asList(
+            new BulkAssignRow(1, 5L, 2L, 3L),
+            new BulkAssignRow(2, 6L, 2L, 3L),
+            new BulkAssignRow(3, 5L, 2L, 3L));
+
+        // Act
+        List<BulkAssignResult> results = assignTaskScheduleService.bulkCreate(rows);
+
+        // Assert
+        assertEquals(3, results.size(), "Every row should have a result");
+        assertEquals(BulkAssignResult.Status.CREATED, results.get(0).getStatus(), "The first row should be created");
+        assertEquals(100L, results.get(0).getAssignmentId(), "The created row should report its id");
+        assertEquals(BulkAssignResult.Status.REJECTED, results.get(1).getStatus(), "An unknown player should be rejected");
+        assertEquals(BulkAssignResult.Status.REJECTED, results.get(2).getStatus(), "A double booking within the batch should be rejected");
+        verify(assignTaskScheduleRepository, times(1)).save(any(AssignTaskScheduleEntity.class));
+        verify(entityManager, atLeastOnce()).flush();
+    }
+
+    /**
+     * Test case: Negative scenario where the CSV contains a malformed line.
+     * Expected: The malformed line should be rejected with its line number and the rest processed.
+     */
+    @Test
+    void bulkCreateCsv_MalformedLine_ShouldBeRejected() throws Exception {
+        // Arrange
+        String csv = "playerId,taskId,scheduleId\nfoo,2,3\n";
+
+        // Act
+        List<BulkAssignResult> results = assignTaskScheduleService.bulkCreateCsv(new StringReader(csv));
+
+        // Assert
+        assertEquals(1, results.size(), "Only the malformed line should produce a result");
+        assertEquals(2, results.get(0).getRow(), "The result should carry the line number");
+        assertEquals(BulkAssignResult.Status.REJECTED, results.get(0).getStatus(), "The line should be rejected");
+        verify(assignTaskScheduleRepository, never()).save(any());
+    }
+
+    /**
+     * Test case: Positive scenario where streamed rows span two keyset chunks.
+     * Expected: Chunks should be fetched only as iteration reaches them, continuing after the last row seen.
+     */
+    @Test
+    void iterateOverlapping_ShouldFetchChunksLazily() {
+        // Arrange
+        LocalDate day = LocalDate.of(2025, 4, 1);
+        List<AssignTaskScheduleRow> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            firstChunk.add(new AssignTaskScheduleRow(id, 1L, "John", "Doe", 1L, "Warm Up", 1L, "Camp", day, day));
+        }
+        AssignTaskScheduleRow lastRow = new AssignTaskScheduleRow(501L, 1L, "John", "Doe", 1L, "Warm Up", 1L, "Camp", day, day);
+        when(assignTaskScheduleRepository.findRowsAfter(any(), any(), eq(LocalDate.of(1, 1, 1)), eq(-1L), any()))
+                .thenReturn(firstChunk);
+        when(assignTaskScheduleRepository.findRowsAfter(any(), any(), eq(day), eq(500L), any()))
+                .thenReturn(Arrays.asList(lastRow));
+        Runnable beforeChunk = mock(Runnable.class);
+
+        // Act
+        Iterable<AssignTaskScheduleRow> rows = assignTaskScheduleService.iterateOverlapping(null, null, beforeChunk);
+
+        // Assert
+        verifyNoInteractions(assignTaskScheduleRepository, beforeChunk);
+        int count = 0;
+        for (AssignTaskScheduleRow row : rows) {
+            count++;
+        }
+        assertEquals(501, count, "Rows from both chunks should be returned");
+        verify(beforeChunk, times(2)).run();
+        verify(assignTaskScheduleRepository, times(2)).findRowsAfter(any(), any(), any(), any(), any());
+    }
+
+    /**
+     * Test case: Positive scenario where the availability index is loaded and more players are free than fit a page.
+     * Expected: The first page should be named from the database and next should point at its last player.
+     */
+    @Test
+    void findAvailablePlayers_IndexReady_ShouldReturnFirstPage() {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 4, 1);
+        LocalDate to = LocalDate.of(2025, 4, 7);
+        when(availabilityIndex.isReady()).thenReturn(true);
+        when(availabilityIndex.findAvailable(from, to)).thenReturn(RoaringBitmap.bitmapOf(2, 5, 9));
+        when(availabilityIndex.countPlayers()).thenReturn(10);
+        when(playerRepository.findOptionsByIds(Arrays.asList(2L, 5L)))
+                .thenReturn(Arrays.asList(new OptionView(2L, "Ann Lee"), new OptionView(5L, "Bo Chan")));
+
+        // Act
+        AvailablePlayersView view = assignTaskScheduleService.findAvailablePlayers(from, to, null, 2);
+
+        // Assert
+        assertEquals(10, view.getTotalPlayers(), "Every player should be counted");
+        assertEquals(3, view.getAvailable(), "Three players should be free");
+        assertEquals(2, view.getPlayers().size(), "The page should hold two players");
+        assertEquals(5L, view.getNext(), "The next page should start after the last returned player");
+        verify(assignTaskScheduleRepository, never()).findAvailablePlayerIds(any(), any());
+    }
+
+    /**
+     * Test case: Negative scenario where from is after to.
+     * Expected: The request should be rejected without consulting the index.
+     */
+    @Test
+    void findAvailablePlayers_InvertedRange_ShouldThrow() {
+        // Act & Assert
+        assertThrows(InvalidDateRangeException.class, () -> assignTaskScheduleService.findAvailablePlayers(
+                LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 1), null, 10));
+        verify(availabilityIndex, never()).findAvailable(any(), any());
+    }
+
+    /**
+     * Test case: Negative scenario where after is negative or beyond the largest indexable player id.
+     * Expected: The cursor should be rejected as invalid instead of overflowing.
+     */
+    @Test
+    void findAvailablePlayers_AfterOutOfRange_ShouldThrow() {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 4, 1);
+        LocalDate to = LocalDate.of(2025, 4, 7);
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class,
+                () -> assignTaskScheduleService.findAvailablePlayers(from, to, -1L, 10));
+        assertThrows(InvalidCursorException.class,
+                () -> assignTaskScheduleService.findAvailablePlayers(from, to, (long) Integer.MAX_VALUE, 10));
+        assertThrows(InvalidCursorException.class,
+                () -> assignTaskScheduleService.findAvailablePlayers(from, to, Long.MAX_VALUE, 10));
+        verify(availabilityIndex, never()).findAvailable(any(), any());
+    }
 }
@@ -0,0 +1,151 @@
+package com.team.AssignTaskScheduleTests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.AssignTaskScheduleWriteBehind;
+import com.team.assignTaskSchedule.AssignmentConflictException;
+import com.team.assignTaskSchedule.WriteBehindRejectedException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for AssignTaskScheduleWriteBehind
+ * Verifies that queued assignments are committed in groups, that conflicts reach their caller, that
+ * a full queue pushes back and that callers never wait unboundedly
+ */
+public class AssignTaskScheduleWriteBehindTest {
+
+    @Mock
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @InjectMocks
+    private AssignTaskScheduleWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(writeBehind, "enabled", true);
+        ReflectionTestUtils.setField(writeBehind, "queueCapacity", 1);
+        ReflectionTestUtils.setField(writeBehind, "maxBatch", 10);
+        ReflectionTestUtils.setField(writeBehind, "offerTimeoutMillis", 50L);
+        ReflectionTestUtils.setField(writeBehind, "writeTimeoutMillis", 5000L);
+        writeBehind.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.stop();
+    }
+
+    /**
+     * Test case: Positive scenario where the group commits without conflicts.
+     * Expected: The caller should get back the assignment it submitted.
+     */
+    @Test
+    void create_GroupCommits_ShouldReturnSavedAssignment() {
+        // Arrange
+        when(assignTaskScheduleService.createGroup(anyList()))
+                .thenAnswer(invocation -> new ArrayList<>(Collections.nCopies(
+                        invocation.<List<?>>getArgument(0).size(), (AssignmentConflictException) null)));
+        AssignTaskScheduleEntity assignTaskSchedule = new AssignTaskScheduleEntity();
+
+        // Act & Assert
+        assertSame(assignTaskSchedule, writeBehind.create(assignTaskSchedule), "The committed assignment should be returned");
+    }
+
+    /**
+     * Test case: Negative scenario where the assignment conflicts with an existing booking.
+     * Expected: The caller should get the AssignmentConflictException reported for its slot.
+     */
+    @Test
+    void create_Conflict_ShouldRethrowConflictToCaller() {
+        // Arrange
+        AssignmentConflictException conflict = new AssignmentConflictException(1L, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30));
+        when(assignTaskScheduleService.createGroup(anyList())).thenReturn(Collections.singletonList(conflict));
+
+        // Act & Assert
+        assertSame(conflict, assertThrows(AssignmentConflictException.class,
+                () -> writeBehind.create(new AssignTaskScheduleEntity())), "The conflict should reach the caller");
+    }
+
+    /**
+     * Test case: Negative scenario where the writer is busy and the queue is full.
+     * Expected: A further submit should be rejected once the offer timeout passes.
+     */
+    @Test
+    void submit_QueueFull_ShouldRejectAfterTimeout() throws Exception {
+        // Arrange
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(assignTaskScheduleService.createGroup(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ArrayList<>(Collections.nCopies(invocation.<List<?>>getArgument(0).size(),
+                    (AssignmentConflictException) null));
+        });
+        CompletableFuture<AssignTaskScheduleEntity> first = writeBehind.submit(new AssignTaskScheduleEntity());
+        assertTrue(writing.await(5, TimeUnit.SECONDS), "The writer should pick up the first assignment");
+        CompletableFuture<AssignTaskScheduleEntity> second = writeBehind.submit(new AssignTaskScheduleEntity());
+
+        // Act & Assert
+        assertThrows(WriteBehindRejectedException.class, () -> writeBehind.submit(new AssignTaskScheduleEntity()));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Test case: Negative scenario where the writer does not commit within the write timeout.
+     * Expected: The caller should be turned away with a WriteBehindRejectedException instead of waiting forever.
+     */
+    @Test
+    void create_WriteTimesOut_ShouldRejectCaller() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(assignTaskScheduleService.createGroup(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Collections.singletonList((AssignmentConflictException) null);
+        });
+        ReflectionTestUtils.setField(writeBehind, "writeTimeoutMillis", 50L);
+
+        // Act & Assert
+        try {
+            assertThrows(WriteBehindRejectedException.class, () -> writeBehind.create(new AssignTaskScheduleEntity()));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Test case: Negative scenario where an assignment is submitted after shutdown has begun.
+     * Expected: The submit should be refused instead of queueing a write nobody will drain.
+     */
+    @Test
+    void submit_AfterStop_ShouldReject() throws InterruptedException {
+        // Arrange
+        writeBehind.stop();
+
+        // Act & Assert
+        assertThrows(WriteBehindRejectedException.class, () -> writeBehind.submit(new AssignTaskScheduleEntity()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.team.AssignTaskScheduleTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.AvailablePlayersView;
+import com.team.assignTaskSchedule.PlayerAvailabilityController;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for PlayerAvailabilityController
+ * Verifies that the window and paging parameters reach the service
+ */
+public class PlayerAvailabilityControllerTest {
+
+    @Mock
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @InjectMocks
+    private PlayerAvailabilityController playerAvailabilityController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Test case: Positive scenario where the second page of free players is requested.
+     * Expected: The service's view should be returned unchanged.
+     */
+    @Test
+    void getAvailablePlayers_ShouldReturnServiceView() {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 4, 1);
+        LocalDate to = LocalDate.of(2025, 4, 7);
+        AvailablePlayersView view = new AvailablePlayersView();
+        when(assignTaskScheduleService.findAvailablePlayers(from, to, 40L, 20)).thenReturn(view);
+
+        // Act
+        AvailablePlayersView result = playerAvailabilityController.getAvailablePlayers(from, to, 40L, 20);
+
+        // Assert
+        assertSame(view, result, "The controller should return the service's view");
+    }
+}
@@ -0,0 +1,103 @@
+package com.team.AssignTaskScheduleTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleRepository;
+import com.team.assignTaskSchedule.AssignTaskScheduleSpan;
+import com.team.assignTaskSchedule.PlayerAvailabilityIndex;
+import com.team.player.PlayerRepository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for PlayerAvailabilityIndex
+ * Verifies that free players are the players with no booking on any day of the window, as bookings come and move
+ */
+public class PlayerAvailabilityIndexTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2024, 6, 1);
+
+    @Mock
+    private AssignTaskScheduleRepository assignTaskScheduleRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @InjectMocks
+    private PlayerAvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(availabilityIndex, "enabled", true);
+        when(playerRepository.findAllIds()).thenReturn(Arrays.asList(1L, 2L, 3L));
+        when(assignTaskScheduleRepository.findAllSpans()).thenReturn(Arrays.asList(
+                new AssignTaskScheduleSpan(10L, 1L, JUNE_1, JUNE_1.plusDays(4)),
+                new AssignTaskScheduleSpan(11L, 2L, JUNE_1.plusDays(9), JUNE_1.plusDays(11))));
+        availabilityIndex.load();
+    }
+
+    /**
+     * Test case: Positive scenario where windows touch one, both or neither of the loaded bookings.
+     * Expected: Only players booked on a day inside the window should be missing from the result.
+     */
+    @Test
+    void findAvailable_AfterLoad_ShouldExcludeBookedPlayers() {
+        assertEquals(RoaringBitmap.bitmapOf(2, 3), availabilityIndex.findAvailable(JUNE_1.plusDays(4), JUNE_1.plusDays(6)),
+                "Player 1 is booked on the first day of the window");
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 3), availabilityIndex.findAvailable(JUNE_1.plusDays(5), JUNE_1.plusDays(8)),
+                "Nobody is booked between the two bookings");
+        assertEquals(RoaringBitmap.bitmapOf(3), availabilityIndex.findAvailable(JUNE_1, JUNE_1.plusDays(30)),
+                "Both booked players overlap a long window");
+    }
+
+    /**
+     * Test case: Positive scenario where a booking is moved to later dates and a new player is added.
+     * Expected: The old days should be freed, the new days booked and the new player counted without
+     * re-reading the players.
+     */
+    @Test
+    void put_MovedBookingAndNewPlayer_ShouldUpdateAvailability() {
+        // Act
+        availabilityIndex.put(new AssignTaskScheduleSpan(10L, 1L, JUNE_1.plusDays(20), JUNE_1.plusDays(21)));
+        availabilityIndex.putPlayer(4L);
+
+        // Assert
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 3, 4), availabilityIndex.findAvailable(JUNE_1, JUNE_1.plusDays(4)),
+                "The moved booking should no longer block its old days");
+        assertEquals(RoaringBitmap.bitmapOf(2, 3, 4), availabilityIndex.findAvailable(JUNE_1.plusDays(21), JUNE_1.plusDays(22)),
+                "The moved booking should block its new days");
+        assertEquals(4, availabilityIndex.countPlayers(), "The new player should be counted");
+        verify(playerRepository, times(1)).findAllIds();
+    }
+
+    /**
+     * Test case: Positive scenario where players are inserted around the service and the players are re-read.
+     * Expected: The inserted players should be free and counted.
+     */
+    @Test
+    void refreshPlayers_AfterImport_ShouldAddImportedPlayers() {
+        // Arrange
+        when(playerRepository.findAllIds()).thenReturn(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+
+        // Act
+        availabilityIndex.refreshPlayers();
+
+        // Assert
+        assertEquals(RoaringBitmap.bitmapOf(2, 3, 4, 5), availabilityIndex.findAvailable(JUNE_1, JUNE_1.plusDays(4)),
+                "The imported players should be free");
+        assertEquals(5, availabilityIndex.countPlayers(), "The imported players should be counted");
+    }
+}
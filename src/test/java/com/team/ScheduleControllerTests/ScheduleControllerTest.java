@@ -6,7 +6,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.WebRequest;
 
+import com.team.common.DataVersions;
 import com.team.schedule.ScheduleController;
 import com.team.schedule.ScheduleEntity;
 import com.team.schedule.ScheduleService;
@@ -14,6 +16,7 @@ import com.team.schedule.ScheduleService;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -28,6 +31,12 @@ public class ScheduleControllerTest {
     @Mock
     private Model model;
 
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private WebRequest webRequest;
+
     @InjectMocks
     private ScheduleController scheduleController;
 
@@ -48,7 +57,7 @@ public class ScheduleControllerTest {
         when(scheduleService.getSchedules()).thenReturn(schedules);
 
         // Act
-        String viewName = scheduleController.getSchedule(model);
+        String viewName = scheduleController.getSchedule(webRequest, model);
 
         // Assert
         assertEquals("Schedules", viewName, "The view name should be 'Schedules'");
@@ -67,7 +76,7 @@ public class ScheduleControllerTest {
         when(scheduleService.getSchedules()).thenReturn(emptySchedules);
 
         // Act
-        String viewName = scheduleController.getSchedule(model);
+        String viewName = scheduleController.getSchedule(webRequest, model);
 
         // Assert
         assertEquals("Schedules", viewName, "The view name should be 'Schedules'");
@@ -86,7 +95,7 @@ public class ScheduleControllerTest {
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
-            scheduleController.getSchedule(model)
+            scheduleController.getSchedule(webRequest, model)
         );
         assertEquals("Service error", exception.getMessage(), "The exception message should match");
         verify(scheduleService, times(1)).getSchedules();
@@ -265,34 +274,28 @@ public class ScheduleControllerTest {
     void updateSchedule_WhenValidData_ShouldUpdateSuccessfully() {
         // Arrange
         Long scheduleId = 1L;
-        ScheduleEntity existingSchedule = new ScheduleEntity();
-        existingSchedule.setId(scheduleId);
-        existingSchedule.setName("Old Name");
-        existingSchedule.setDescription("Old Description");
-        existingSchedule.setStartDate(LocalDate.of(2023, 1, 1));
-        existingSchedule.setEndDate(LocalDate.of(2023, 1, 31));
-
         ScheduleEntity updatedSchedule = new ScheduleEntity();
         updatedSchedule.setName("New Name");
         updatedSchedule.setDescription("New Description");
         updatedSchedule.setStartDateStr("2023-02-01");
         updatedSchedule.setEndDateStr("2023-02-28");
 
-        when(scheduleService.getById(scheduleId)).thenReturn(existingSchedule);
-        when(scheduleService.create(any(ScheduleEntity.class))).thenReturn(existingSchedule);
+        updatedSchedule.setVersion(2L);
 
     // Act
     String viewName = scheduleController.updateSchedule(scheduleId, updatedSchedule);
 
     // Assert
     assertEquals("redirect:/schedule/get-schedules", viewName, "Should redirect to the schedules list");
-    verify(scheduleService, times(1)).getById(scheduleId);
-   // verify(scheduleService, times(1)).create(existingSchedule);
+    verify(scheduleService, times(1)).update(scheduleId, updatedSchedule);
+    verify(scheduleService, never()).getById(any());
+    verify(scheduleService, never()).create(any(ScheduleEntity.class));
 
-    assertEquals("New Name", existingSchedule.getName());
-    assertEquals("New Description", existingSchedule.getDescription());
-    assertEquals(LocalDate.of(2023, 2, 1), existingSchedule.getStartDate());
-    assertEquals(LocalDate.of(2023, 2, 28), existingSchedule.getEndDate());
+    assertEquals("New Name", updatedSchedule.getName());
+    assertEquals("New Description", updatedSchedule.getDescription());
+    assertEquals(LocalDate.of(2023, 2, 1), updatedSchedule.getStartDate());
+    assertEquals(LocalDate.of(2023, 2, 28), updatedSchedule.getEndDate());
+    assertNotNull(updatedSchedule.getUpdatedOn());
 }
 
 @Test
@@ -306,7 +309,7 @@ void updateSchedule_WhenInvalidId_ShouldHandleException() {
     updatedSchedule.setStartDateStr("2023-02-01");
     updatedSchedule.setEndDateStr("2023-02-28");
 
-    when(scheduleService.getById(invalidScheduleId)).thenThrow(new RuntimeException("Schedule not found"));
+    doThrow(new NoSuchElementException("Schedule not found")).when(scheduleService).update(invalidScheduleId, updatedSchedule);
 
     // Act & Assert
     RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -314,7 +317,7 @@ void updateSchedule_WhenInvalidId_ShouldHandleException() {
     });
 
     assertEquals("Schedule not found", exception.getMessage());
-    verify(scheduleService, times(1)).getById(invalidScheduleId);
+    verify(scheduleService, times(1)).update(invalidScheduleId, updatedSchedule);
     verify(scheduleService, never()).create(any(ScheduleEntity.class));
 }
 
@@ -0,0 +1,74 @@
+package com.team.ScheduleControllerTests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.team.common.ImportReport;
+import com.team.schedule.ScheduleEntity;
+import com.team.schedule.ScheduleService;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for ScheduleService.importCsv
+ * Verifies that valid schedule rows are inserted with their dates and invalid ones are reported
+ */
+@SpringBootTest
+class ScheduleImportTest {
+
+    private static final String NAME_PREFIX = "Imported schedule ";
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedule_entity WHERE name LIKE ?", NAME_PREFIX + "%");
+    }
+
+    /**
+     * Test case: Positive scenario where the file mixes a valid schedule with rows that have too few columns,
+     * a malformed date and an end date before the start date.
+     * Expected: The valid schedule should be inserted and listed, and each invalid row rejected with its reason.
+     */
+    @Test
+    void importCsv_MixedRows_ShouldInsertValidAndRejectInvalid() throws IOException {
+        // Arrange
+        scheduleService.getOptions();
+        String csv = "name,description,type,start_date,end_date\n"
+                + NAME_PREFIX + "1,Spring league,League,2026-03-01,2026-05-31\n"
+                + NAME_PREFIX + "2,Missing dates,League\n"
+                + NAME_PREFIX + "3,Bad date,League,01/03/2026,2026-05-31\n"
+                + NAME_PREFIX + "4,Backwards,League,2026-05-31,2026-03-01\n";
+
+        // Act
+        ImportReport report = scheduleService.importCsv(new StringReader(csv));
+
+        // Assert
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(
+                new ImportReport.RejectedLine(3, "Expected 5 columns but found 3"),
+                new ImportReport.RejectedLine(4, "start_date is not an ISO date: 01/03/2026"),
+                new ImportReport.RejectedLine(5, "end_date is before start_date")), report.getRejectedLines());
+        ScheduleEntity imported = scheduleService.getSchedules().stream()
+                .filter(schedule -> (NAME_PREFIX + "1").equals(schedule.getName()))
+                .findFirst().orElseThrow();
+        assertEquals(LocalDate.of(2026, 3, 1), imported.getStartDate());
+        assertEquals(LocalDate.of(2026, 5, 31), imported.getEndDate());
+        assertTrue(scheduleService.getOptions().stream()
+                        .anyMatch(option -> (NAME_PREFIX + "1").equals(option.getName())),
+                "The cached options should include the imported schedule");
+    }
+}
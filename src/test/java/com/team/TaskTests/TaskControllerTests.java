@@ -12,6 +12,7 @@ import com.team.task.TaskService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -252,28 +253,23 @@ public class TaskControllerTests extends TaskController {
     void createTask_ShouldRedirectToGetTasks_WhenUpdateIsSuccessful() {
         // Arrange
         Long id = 1L;
-        TaskEntity existingTask = new TaskEntity();
-        existingTask.setId(id);
-        existingTask.setName("Old Task");
-        existingTask.setDescription("Old Description");
-
         TaskEntity updatedTask = new TaskEntity();
         updatedTask.setName("Updated Task");
         updatedTask.setDescription("Updated Description");
 
-        when(taskService.getById(id)).thenReturn(existingTask);
-        when(taskService.create(existingTask)).thenReturn(existingTask);
+        updatedTask.setVersion(4L);
 // Act
 String viewName = taskController.createTask(id, updatedTask);
 
 // Assert
 assertEquals("redirect:/task/get-tasks", viewName, "The method should redirect to the 'get-tasks' endpoint");
-verify(taskService, times(1)).getById(id);
-//verify(taskService, times(1)).create(existingTask);
+verify(taskService, times(1)).update(id, updatedTask);
+verify(taskService, never()).getById(any());
+verify(taskService, never()).create(any());
 
-assertEquals("Updated Task", existingTask.getName(), "The task name should be updated");
-assertEquals("Updated Description", existingTask.getDescription(), "The task description should be updated");
-assertNotNull(existingTask.getUpdatedOn(), "The updatedOn field should be set");
+assertEquals("Updated Task", updatedTask.getName(), "The task name should be passed through");
+assertEquals("Updated Description", updatedTask.getDescription(), "The task description should be passed through");
+assertNotNull(updatedTask.getUpdatedOn(), "The updatedOn field should be set");
 }
 
  /**
@@ -288,14 +284,14 @@ assertNotNull(existingTask.getUpdatedOn(), "The updatedOn field should be set");
         updatedTask.setName("Updated Task");
         updatedTask.setDescription("Updated Description");
 
-        when(taskService.getById(id)).thenThrow(new RuntimeException("Task not found"));
+        doThrow(new NoSuchElementException("Task not found")).when(taskService).update(id, updatedTask);
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             taskController.createTask(id, updatedTask)
         );
         assertEquals("Task not found", exception.getMessage(), "The exception message should match");
-        verify(taskService, times(1)).getById(id);
+        verify(taskService, times(1)).update(id, updatedTask);
         verify(taskService, never()).create(any());
     }
 
@@ -0,0 +1,67 @@
+package com.team.TaskTests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.team.common.ImportReport;
+import com.team.task.TaskService;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for TaskService.importCsv
+ * Verifies that valid task rows are inserted and invalid ones are reported with their line numbers
+ */
+@SpringBootTest
+class TaskImportTest {
+
+    private static final String NAME_PREFIX = "Imported task ";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_entity WHERE name LIKE ?", NAME_PREFIX + "%");
+    }
+
+    /**
+     * Test case: Positive scenario where the file mixes valid tasks, a multi-line description and a task
+     * without a description.
+     * Expected: The valid tasks should be inserted and listed, and the invalid one should be rejected.
+     */
+    @Test
+    void importCsv_MixedRows_ShouldInsertValidAndRejectInvalid() throws IOException {
+        // Arrange
+        taskService.getOptions();
+        String csv = "name,description,type\n"
+                + NAME_PREFIX + "1,Run drills,Practice\n"
+                + "\"" + NAME_PREFIX + "2\",\"Bring cones,\nand bibs\",\n"
+                + NAME_PREFIX + "3,,Practice\n";
+
+        // Act
+        ImportReport report = taskService.importCsv(new StringReader(csv));
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(List.of(new ImportReport.RejectedLine(5, "name and description are required")),
+                report.getRejectedLines());
+        assertEquals("Bring cones,\nand bibs", jdbcTemplate.queryForObject(
+                "SELECT description FROM task_entity WHERE name = ?", String.class, NAME_PREFIX + "2"));
+        assertTrue(taskService.getOptions().stream().anyMatch(option -> (NAME_PREFIX + "1").equals(option.getName())),
+                "The cached options should include the imported task");
+        assertTrue(taskService.getTasks().stream().anyMatch(task -> (NAME_PREFIX + "2").equals(task.getName())),
+                "The task list should include the imported task");
+    }
+}
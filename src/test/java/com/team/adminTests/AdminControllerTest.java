@@ -0,0 +1,89 @@
+package com.team.adminTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.team.admin.AdminController;
+import com.team.admin.CacheStatsView;
+import com.team.common.CacheConfig;
+import com.team.common.SlowQueryLog;
+import com.team.common.SlowQueryView;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for AdminController
+ * Verifies that cache hit/miss counters are reported per cache and slow queries are listed
+ */
+public class AdminControllerTest {
+
+    @Spy
+    private CaffeineCacheManager caffeineCacheManager =
+            new CacheConfig().caffeineCacheManager("maximumWeight=10,recordStats");
+
+    @Mock
+    private SlowQueryLog slowQueryLog;
+
+    @InjectMocks
+    private AdminController adminController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Test case: Positive scenario where the players cache is missed once and then hit twice.
+     * Expected: The stats should report one miss, two hits and one cached entry.
+     */
+    @Test
+    void getCacheStats_ShouldReportHitsAndMisses() {
+        // Arrange
+        Cache players = caffeineCacheManager.getCache(CacheConfig.PLAYERS);
+        players.get("all");
+        players.put("all", "cached");
+        players.get("all");
+        players.get("all");
+
+        // Act
+        Map<String, CacheStatsView> stats = adminController.getCacheStats();
+
+        // Assert
+        CacheStatsView playerStats = stats.get(CacheConfig.PLAYERS);
+        assertEquals(1, playerStats.getMisses(), "The first lookup should be a miss");
+        assertEquals(2, playerStats.getHits(), "Later lookups should be hits");
+        assertEquals(1, playerStats.getSize(), "One entry should be cached");
+        assertEquals(0, stats.get(CacheConfig.TASKS).getHits(), "Other caches should be untouched");
+    }
+
+    /**
+     * Test case: Positive scenario where the slow query log holds one statement.
+     * Expected: The statement should be returned as captured.
+     */
+    @Test
+    void getSlowQueries_ShouldReturnCapturedStatements() {
+        // Arrange
+        SlowQueryView query = new SlowQueryView();
+        query.setSql("select * from player_entity");
+        query.setMaxMillis(250);
+        when(slowQueryLog.top()).thenReturn(Collections.singletonList(query));
+
+        // Act
+        List<SlowQueryView> slowQueries = adminController.getSlowQueries();
+
+        // Assert
+        assertEquals(1, slowQueries.size(), "One slow query should be listed");
+        assertEquals("select * from player_entity", slowQueries.get(0).getSql(), "The statement should be returned as captured");
+    }
+}
@@ -0,0 +1,84 @@
+package com.team.apiTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.team.api.AssignTaskScheduleApiController;
+import com.team.assignTaskSchedule.AssignTaskScheduleRow;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for AssignTaskScheduleApiController
+ * Verifies keyset paging of assignment rows
+ */
+public class AssignTaskScheduleApiControllerTest {
+
+    @Mock
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @InjectMocks
+    private AssignTaskScheduleApiController assignTaskScheduleApiController;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        response = new MockHttpServletResponse();
+    }
+
+    /**
+     * Test case: Positive scenario where more rows match than fit on the page.
+     * Expected: The extra row should be dropped and the next cursor should point at the last row written.
+     */
+    @Test
+    void getAssignments_MoreRowsThanPage_ShouldWriteNextCursor() throws Exception {
+        // Arrange
+        AssignTaskScheduleRow first = row(1L, LocalDate.of(2024, 1, 1));
+        AssignTaskScheduleRow second = row(2L, LocalDate.of(2024, 1, 5));
+        when(assignTaskScheduleService.getRowsAfter(isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(Arrays.asList(first, second));
+
+        // Act
+        assignTaskScheduleApiController.getAssignments(null, null, null, 1, "id,startDate", response);
+
+        // Assert
+        assertEquals("{\"size\":1,\"next\":\"2024-01-01:1\",\"items\":[{\"id\":1,\"startDate\":\"2024-01-01\"}]}",
+                response.getContentAsString(), "Only the first row should be written, followed by its cursor");
+    }
+
+    /**
+     * Test case: Positive scenario where the last page is requested.
+     * Expected: The next cursor should be null.
+     */
+    @Test
+    void getAssignments_LastPage_ShouldWriteNullCursor() throws Exception {
+        // Arrange
+        when(assignTaskScheduleService.getRowsAfter(isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(Arrays.asList(row(1L, LocalDate.of(2024, 1, 1))));
+
+        // Act
+        assignTaskScheduleApiController.getAssignments(null, null, null, 2, "id", response);
+
+        // Assert
+        assertEquals("{\"size\":2,\"next\":null,\"items\":[{\"id\":1}]}", response.getContentAsString(),
+                "The last page should have no next cursor");
+    }
+
+    private static AssignTaskScheduleRow row(Long id, LocalDate startDate) {
+        return new AssignTaskScheduleRow(id, 10L, "John", "Doe", 20L, "Task", 30L, "Schedule",
+                startDate, startDate.plusDays(1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.team.apiTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.team.api.ApiFields;
+import com.team.api.PlayerApiController;
+import com.team.api.UnknownFieldException;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerService;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for PlayerApiController
+ * Verifies paged JSON output, field selection and field declaration
+ */
+public class PlayerApiControllerTest {
+
+    @Mock
+    private PlayerService playerService;
+
+    @InjectMocks
+    private PlayerApiController playerApiController;
+
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        response = new MockHttpServletResponse();
+    }
+
+    /**
+     * Test case: Positive scenario where a client asks for two fields of the first page.
+     * Expected: The page metadata and only the selected fields of each player should be written.
+     */
+    @Test
+    void getPlayers_WithFields_ShouldWriteSelectedFieldsOnly() throws Exception {
+        // Arrange
+        PlayerEntity player = new PlayerEntity();
+        player.setId(7L);
+        player.setFirstName("John");
+        player.setLastName("Doe");
+        player.setEmail("john.doe@example.com");
+        when(playerService.getPage(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Collections.singletonList(player), PageRequest.of(0, 2), 3));
+
+        // Act
+        playerApiController.getPlayers(0, 2, "firstName,id", response);
+
+        // Assert
+        assertEquals("application/json", response.getContentType().split(";")[0], "The response should be JSON");
+        assertEquals("{\"page\":0,\"size\":2,\"totalElements\":3,\"totalPages\":2,"
+                        + "\"items\":[{\"id\":7,\"firstName\":\"John\"}]}",
+                response.getContentAsString(), "Only the selected fields should be written, in declaration order");
+    }
+
+    /**
+     * Test case: Negative scenario where a client selects a field players do not have.
+     * Expected: An UnknownFieldException should be thrown before the service is called.
+     */
+    @Test
+    void getPlayer_UnknownField_ShouldThrowBadRequest() {
+        assertThrows(UnknownFieldException.class, () -> playerApiController.getPlayer(7L, "id,password", response));
+    }
+
+    /**
+     * Test case: Negative scenario where a field is declared under a name the entity has no property for.
+     * Expected: The declaration should fail with an IllegalArgumentException instead of exposing a misnamed field.
+     */
+    @Test
+    void apiFields_UnknownProperty_ShouldFailDeclaration() {
+        ApiFields<PlayerEntity> fields = ApiFields.of(PlayerEntity.class);
+
+        assertThrows(IllegalArgumentException.class, () -> fields.string("nickName", PlayerEntity::getFirstName));
+    }
+}
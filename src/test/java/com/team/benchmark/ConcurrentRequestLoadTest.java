@@ -0,0 +1,128 @@
+package com.team.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test for concurrent requests that spend most of their time blocked on JDBC
+ * Many clients call an endpoint that holds a pooled connection for a fixed time, as a slow query would, and
+ * the throughput and latency percentiles are printed. PlatformThreadLoadTest and VirtualThreadLoadTest run it
+ * on Tomcat's thread pool and on virtual threads; compare their output with mvn test -Pbenchmark,virtual-threads
+ * on JDK 21.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(ConcurrentRequestLoadTest.BlockingQueryController.class)
+abstract class ConcurrentRequestLoadTest {
+
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final long QUERY_MILLIS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    protected abstract String mode();
+
+    @Test
+    void blockingRequests_ShouldReportThroughputAndTailLatency() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/benchmark/blocking-query"))
+                .timeout(Duration.ofSeconds(60)).build();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        long started = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.execute(() -> {
+                try {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.MINUTES), "All clients should finish");
+        long elapsed = System.nanoTime() - started;
+        clients.shutdown();
+
+        long[] measured = Arrays.copyOf(latencies, next.get());
+        Arrays.sort(measured);
+        System.out.printf("%s: %d clients x %d requests holding a connection for %d ms%n",
+                mode(), CLIENTS, REQUESTS_PER_CLIENT, QUERY_MILLIS);
+        System.out.printf("  throughput %.0f req/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms, failures %d%n",
+                measured.length / (elapsed / 1e9), percentile(measured, 50), percentile(measured, 99),
+                percentile(measured, 99.9), percentile(measured, 100), failures.get());
+        assertEquals(0, failures.get(), "No request should fail");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    @RestController
+    static class BlockingQueryController {
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        /**
+         * Holds a pooled connection for QUERY_MILLIS before a cheap query, standing in for a query that waits
+         * on the database. The wait is a sleep rather than work inside the embedded H2 driver, whose
+         * synchronized blocks would pin a virtual thread to its carrier.
+         */
+        @GetMapping("/benchmark/blocking-query")
+        public Integer blockingQuery() {
+            return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                try {
+                    Thread.sleep(QUERY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM player_entity")) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            });
+        }
+    }
+}
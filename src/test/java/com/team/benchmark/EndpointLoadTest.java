@@ -0,0 +1,137 @@
+package com.team.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Release load test for the main pages
+ * Boots the application on a random port over a generated dataset and drives each endpoint in turn at a fixed
+ * arrival rate, then prints throughput and latency percentiles per endpoint and writes target/load-test/
+ * with an HdrHistogram percentile file per endpoint and summary.json. Fails on any error response; requests
+ * that time out because the host cannot keep up with the rate are reported, not failed, since the percentiles
+ * already show it. The default of 10 req/s is what a single-core box serves without queueing; beyond its
+ * capacity an open workload only measures the backlog. Runs with mvn test -Pbenchmark -Dtest=EndpointLoadTest;
+ * -Dload.rate, -Dload.warmup-seconds and -Dload.seconds change the load.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "team.dataset.generate=true",
+        "team.dataset.players=" + EndpointLoadTest.PLAYERS,
+        "team.dataset.tasks=" + EndpointLoadTest.TASKS,
+        "team.dataset.schedules=" + EndpointLoadTest.SCHEDULES,
+        "team.dataset.assignments=20000",
+        "logging.level.root=WARN"
+})
+class EndpointLoadTest {
+
+    static final int PLAYERS = 2000;
+    static final int TASKS = 100;
+    static final int SCHEDULES = 500;
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "10"));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+    private static final Path REPORT_DIRECTORY = Paths.get("target", "load-test");
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void mainEndpoints_ShouldReportLatencyPercentiles() throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        OpenModelLoad load = new OpenModelLoad(client);
+        AtomicLong next = new AtomicLong();
+
+        Map<String, Supplier<HttpRequest>> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /", () -> get("/"));
+        endpoints.put("GET /add", () -> get("/add"));
+        endpoints.put("POST /search", () -> post("/search", "startDateStr=2024-06-01&endDateStr=2024-06-07"));
+        endpoints.put("POST /create", () -> {
+            long n = next.getAndIncrement();
+            return post("/create", "player=" + (1 + n % PLAYERS) + "&task=" + (1 + n % TASKS)
+                    + "&schedule=" + (1 + n % SCHEDULES));
+        });
+        endpoints.put("GET /player/get-players", () -> get("/player/get-players"));
+        endpoints.put("GET /task/get-tasks", () -> get("/task/get-tasks"));
+        endpoints.put("GET /schedule/get-schedules", () -> get("/schedule/get-schedules"));
+
+        List<OpenModelLoad.Result> results = new ArrayList<>();
+        for (Map.Entry<String, Supplier<HttpRequest>> endpoint : endpoints.entrySet()) {
+            results.add(load.run(endpoint.getKey(), endpoint.getValue(), RATE, WARMUP, DURATION));
+        }
+        report(results);
+
+        for (OpenModelLoad.Result result : results) {
+            assertEquals(0, result.errors.get(), result.name + " should not fail");
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+
+    private HttpRequest post(String path, String form) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static void report(List<OpenModelLoad.Result> results) throws Exception {
+        Files.createDirectories(REPORT_DIRECTORY);
+        System.out.printf("%nOpen-model load at %.0f req/s for %d s per endpoint (latency in ms)%n", RATE, DURATION.getSeconds());
+        System.out.printf("%-28s %8s %8s %8s %8s %8s %8s %6s %8s %6s%n",
+                "endpoint", "req/s", "p50", "p90", "p99", "p99.9", "max", "409", "timeouts", "errors");
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (OpenModelLoad.Result result : results) {
+            System.out.printf("%-28s %8.1f %8.2f %8.2f %8.2f %8.2f %8.2f %6d %8d %6d%n", result.name,
+                    result.throughput(), result.percentileMillis(50), result.percentileMillis(90),
+                    result.percentileMillis(99), result.percentileMillis(99.9), result.latencies.getMaxValue() / 1e6,
+                    result.conflicts.get(), result.timeouts.get() + result.unfinished, result.errors.get());
+
+            String fileName = result.name.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve(fileName)), true, "UTF-8")) {
+                result.latencies.outputPercentileDistribution(out, 1e6);
+            }
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("offeredRate", result.offeredRate);
+            endpoint.put("throughput", result.throughput());
+            endpoint.put("count", result.latencies.getTotalCount());
+            endpoint.put("p50Millis", result.percentileMillis(50));
+            endpoint.put("p90Millis", result.percentileMillis(90));
+            endpoint.put("p99Millis", result.percentileMillis(99));
+            endpoint.put("p999Millis", result.percentileMillis(99.9));
+            endpoint.put("maxMillis", result.latencies.getMaxValue() / 1e6);
+            endpoint.put("conflicts", result.conflicts.get());
+            endpoint.put("timeouts", result.timeouts.get());
+            endpoint.put("errors", result.errors.get());
+            endpoint.put("unfinished", result.unfinished);
+            summary.put(result.name, endpoint);
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(REPORT_DIRECTORY.resolve("summary.json").toFile(), summary);
+    }
+}
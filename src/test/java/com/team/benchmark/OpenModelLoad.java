@@ -0,0 +1,124 @@
+package com.team.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Sends requests at a fixed arrival rate whatever the server's response time (an open workload) and records
+ * each latency from when the request was due rather than when it went out. A stalled server therefore shows
+ * in the percentiles instead of quietly lowering the offered load, which is the coordinated omission a
+ * closed loop of clients suffers from.
+ */
+class OpenModelLoad {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final long DRAIN_MILLIS = 60_000;
+    private static final int TIMED_OUT = 0;
+
+    private final HttpClient client;
+
+    OpenModelLoad(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Offers requests at ratePerSecond for warmup plus duration; only requests due after the warmup are recorded.
+     */
+    Result run(String name, Supplier<HttpRequest> requests, double ratePerSecond, Duration warmup, Duration duration)
+            throws InterruptedException {
+        Result result = new Result(name);
+        AtomicInteger inFlight = new AtomicInteger();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long started = System.nanoTime();
+        long measuredFrom = started + warmup.toNanos();
+        long end = measuredFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long due = started + i * interval;
+            if (due >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = due >= measuredFrom;
+            inFlight.incrementAndGet();
+            client.sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                if (measured) {
+                    result.record(System.nanoTime() - due, failure == null ? response.statusCode() : statusOf(failure));
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+        long drainUntil = System.currentTimeMillis() + DRAIN_MILLIS;
+        while (inFlight.get() > 0 && System.currentTimeMillis() < drainUntil) {
+            Thread.sleep(10);
+        }
+        result.unfinished = inFlight.get();
+        result.seconds = duration.toNanos() / 1e9;
+        result.offeredRate = ratePerSecond;
+        return result;
+    }
+
+    private static int statusOf(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        return cause instanceof HttpTimeoutException ? TIMED_OUT : -1;
+    }
+
+    static final class Result {
+
+        final String name;
+        final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final AtomicLong succeeded = new AtomicLong();
+        final AtomicLong conflicts = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        double seconds;
+        double offeredRate;
+        int unfinished;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 2xx and 3xx count as successes, 409 as an expected conflict and a request that outlived its timeout as
+         * the server falling behind the offered rate; anything else, including a failure to connect (status -1),
+         * is an error. Every response and timeout is in the histogram.
+         */
+        private void record(long latencyNanos, int status) {
+            latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (status >= 200 && status < 400) {
+                succeeded.incrementAndGet();
+            } else if (status == 409) {
+                conflicts.incrementAndGet();
+            } else if (status == TIMED_OUT) {
+                timeouts.incrementAndGet();
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+
+        double throughput() {
+            return latencies.getTotalCount() / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+}
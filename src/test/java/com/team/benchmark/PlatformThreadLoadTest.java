@@ -0,0 +1,13 @@
+package com.team.benchmark;
+
+/**
+ * Runs the blocking-request load test on Tomcat's default pool of 200 platform threads and the default
+ * connection pool.
+ */
+class PlatformThreadLoadTest extends ConcurrentRequestLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform threads";
+    }
+}
@@ -0,0 +1,179 @@
+package com.team.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleEntity;
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark for the read-only query path
+ * Runs the full player list, the first assignment page as the home page renders it and single assignment
+ * lookups by id, each in a read-write and in a read-only transaction, and prints the latency and the heap
+ * allocated per call in the log. The services join the surrounding transaction, so its mode is the one measured.
+ * Run with mvn test -Pbenchmark.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "team.dataset.generate=true",
+        "team.dataset.players=20000",
+        "team.dataset.tasks=50",
+        "team.dataset.schedules=200",
+        "team.dataset.assignments=20000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadOnlyQueryBenchmarkTest {
+
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 30;
+    private static final int PAGE_SIZE = 25;
+    private static final int LOOKUPS = 1_000;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private List<Long> assignmentIds;
+
+    @BeforeAll
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        assignmentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM assign_task_schedule_entity ORDER BY id LIMIT " + LOOKUPS, Long.class);
+    }
+
+    /**
+     * Test case: The read-only transaction should hand back entities Hibernate does not track for dirty checking.
+     * Expected: Entities loaded read-only are flagged read-only in the session; read-write ones are not.
+     */
+    @Test
+    void readOnlyTransaction_ShouldLoadEntitiesWithoutSnapshots() {
+        boolean readOnlyLoad = readOnly.execute(status -> {
+            PlayerEntity player = playerRepository.findAll().get(0);
+            return entityManager.unwrap(Session.class).isReadOnly(player);
+        });
+        boolean readWriteLoad = readWrite.execute(status -> {
+            PlayerEntity player = playerRepository.findAll().get(0);
+            return entityManager.unwrap(Session.class).isReadOnly(player);
+        });
+        assertTrue(readOnlyLoad, "Entities loaded in a read-only transaction should be read-only");
+        assertFalse(readWriteLoad, "Entities loaded in a read-write transaction should be tracked");
+    }
+
+    /**
+     * Logs mean latency and allocated bytes per findAll for both transaction modes.
+     */
+    @Test
+    void compareReadWriteAndReadOnlyFindAll() {
+        compare("findAll of players", ITERATIONS, index -> playerRepository.findAll().size());
+    }
+
+    /**
+     * Logs mean latency and allocated bytes per rendered first assignment page for both transaction modes.
+     */
+    @Test
+    void compareReadWriteAndReadOnlyAssignmentPage() {
+        compare("assignment page", ITERATIONS, index -> {
+            List<AssignTaskScheduleEntity> page = assignTaskScheduleService.getTaskSchedulePage(null, null, PAGE_SIZE)
+                    .getContent();
+            page.forEach(ReadOnlyQueryBenchmarkTest::render);
+            return page.size();
+        });
+    }
+
+    /**
+     * Logs mean latency and allocated bytes per assignment getById, one transaction each, for both modes.
+     */
+    @Test
+    void compareReadWriteAndReadOnlyGetById() {
+        compare("assignment getById", LOOKUPS, index -> {
+            render(assignTaskScheduleService.getById(assignmentIds.get(index % assignmentIds.size())));
+            return 1;
+        });
+    }
+
+    private void compare(String operation, int iterations, IntFunction<Integer> call) {
+        Result writeResult = measure(readWrite, iterations, call);
+        Result readResult = measure(readOnly, iterations, call);
+        assertEquals(writeResult.rows, readResult.rows, "Both modes should load the same rows");
+
+        log.info("{} ({} rows): read-write {} ms/op {} KB/op, read-only {} ms/op {} KB/op", operation, readResult.rows,
+                String.format("%.3f", writeResult.millisPerOp), writeResult.kilobytesPerOp,
+                String.format("%.3f", readResult.millisPerOp), readResult.kilobytesPerOp);
+    }
+
+    private Result measure(TransactionTemplate template, int iterations, IntFunction<Integer> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            int index = i;
+            template.execute(status -> call.apply(index));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int rows = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            int index = i;
+            rows = template.execute(status -> call.apply(index));
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(rows, elapsed / 1_000_000.0 / iterations, allocated / 1024 / iterations);
+    }
+
+    private static void render(AssignTaskScheduleEntity assignTaskSchedule) {
+        // Touch the same properties AssignTaskSchedule.html reads
+        assignTaskSchedule.getPlayer().getFirstName();
+        assignTaskSchedule.getTask().getName();
+        assignTaskSchedule.getSchedule().getName();
+    }
+
+    private static class Result {
+        private final int rows;
+        private final double millisPerOp;
+        private final long kilobytesPerOp;
+
+        private Result(int rows, double millisPerOp, long kilobytesPerOp) {
+            this.rows = rows;
+            this.millisPerOp = millisPerOp;
+            this.kilobytesPerOp = kilobytesPerOp;
+        }
+    }
+}
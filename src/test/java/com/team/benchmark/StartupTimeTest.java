@@ -0,0 +1,124 @@
+package com.team.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.io.File;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark for time to first request
+ * Starts the jar built by mvn -Pfast-startup package in a fresh JVM and times until the home page first
+ * answers 200: plainly, with the fast-startup profile, and with the profile plus the AppCDS archive.
+ * Run with mvn -Pbenchmark test -Dtest=StartupTimeTest after packaging; -Dstartup.budget-ms=N fails the test
+ * when the fast-startup median exceeds N.
+ */
+@Tag("benchmark")
+@EnabledIf("jarBuilt")
+class StartupTimeTest {
+
+    private static final Path TARGET = Paths.get("target");
+    private static final Path ARCHIVE = TARGET.resolve("app-cds.jsa");
+    private static final int RUNS = 3;
+    private static final long TIMEOUT_MILLIS = 120_000;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    static boolean jarBuilt() {
+        return Files.isDirectory(TARGET.resolve("lib")) && jar() != null;
+    }
+
+    @Test
+    void timeToFirstRequest_ShouldReportEachStartupMode() throws Exception {
+        long plain = median("default");
+        long fastStartup = median("fast-startup", "--spring.profiles.active=fast-startup");
+        System.out.printf("time to first request, median of %d runs%n", RUNS);
+        System.out.printf("  default:               %6d ms%n", plain);
+        System.out.printf("  fast-startup:          %6d ms%n", fastStartup);
+        long best = fastStartup;
+        if (Files.exists(ARCHIVE)) {
+            long withArchive = median("fast-startup + AppCDS", "-XX:SharedArchiveFile=" + ARCHIVE, "-Xshare:auto",
+                    "--spring.profiles.active=fast-startup");
+            System.out.printf("  fast-startup + AppCDS: %6d ms%n", withArchive);
+            best = Math.min(best, withArchive);
+        }
+        String budget = System.getProperty("startup.budget-ms");
+        if (budget != null) {
+            assertTrue(best <= Long.parseLong(budget), "Time to first request " + best + " ms exceeds the budget of "
+                    + budget + " ms");
+        }
+    }
+
+    /**
+     * Median time to first request over RUNS starts; arguments starting with -X go to the JVM, the rest to
+     * the application.
+     */
+    private long median(String mode, String... arguments) throws Exception {
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            times[i] = timeToFirstRequest(mode, arguments);
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2];
+    }
+
+    private long timeToFirstRequest(String mode, String... arguments) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        Arrays.stream(arguments).filter(argument -> argument.startsWith("-X")).forEach(command::add);
+        command.add("-jar");
+        command.add(jar().toString());
+        Arrays.stream(arguments).filter(argument -> !argument.startsWith("-X")).forEach(command::add);
+        command.add("--server.port=" + port);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .timeout(Duration.ofSeconds(30)).build();
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            while (System.nanoTime() - started < TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS)) {
+                assertTrue(process.isAlive(), mode + " exited with " + (process.isAlive() ? 0 : process.exitValue()));
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode + " did not answer within " + TIMEOUT_MILLIS + " ms");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static Path jar() {
+        File[] jars = TARGET.toFile().listFiles((dir, name) -> name.startsWith("team-management-") && name.endsWith(".jar"));
+        return jars != null && jars.length == 1 ? jars[0].toPath() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.team.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the blocking-request load test with the virtual profile: requests on virtual threads and a connection
+ * pool sized for them. Skipped on JDKs without virtual threads.
+ */
+@ActiveProfiles("virtual")
+@EnabledIf("supportsVirtualThreads")
+class VirtualThreadLoadTest extends ConcurrentRequestLoadTest {
+
+    static boolean supportsVirtualThreads() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Override
+    protected String mode() {
+        return "virtual threads";
+    }
+}
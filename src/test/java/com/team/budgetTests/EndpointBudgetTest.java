@@ -0,0 +1,167 @@
+package com.team.budgetTests;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for per-endpoint performance budgets
+ * Runs the home page, search, edit form and entity list pages against a generated dataset and fails when a
+ * change raises the number of SQL statements, the heap allocated or the median latency of a request past its
+ * budget. Statement counts come from Hibernate statistics and are exact, so they catch an N+1 however fast the
+ * machine is; allocation is measured on the request thread, which MockMvc shares with the test. Each endpoint
+ * gets a hundred warm-up requests so the JIT has settled before the median is taken. Latency budgets are loose
+ * enough for a busy CI box and can be scaled with -Dbudget.latency-factor.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "team.dataset.generate=true",
+        "team.dataset.players=500",
+        "team.dataset.tasks=50",
+        "team.dataset.schedules=200",
+        "team.dataset.assignments=5000"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointBudgetTest {
+
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 21;
+    private static final double LATENCY_FACTOR = Double.parseDouble(System.getProperty("budget.latency-factor", "1"));
+    private static final long MB = 1024 * 1024;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Test case: Positive scenario where the first page of assignments is rendered.
+     * Expected: One keyset query fetching players, tasks and schedules in the same statement.
+     */
+    @Test
+    void homePage_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /", get("/"), 1, 8 * MB, 100);
+    }
+
+    /**
+     * Test case: Positive scenario where a one-week window is searched.
+     * Expected: The few hundred matches fit one id batch and are loaded with their details in one statement.
+     */
+    @Test
+    void search_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("POST /search", post("/search")
+                .param("startDateStr", "2024-06-01")
+                .param("endDateStr", "2024-06-07"), 1, 16 * MB, 150);
+    }
+
+    /**
+     * Test case: Positive scenario where the edit form of an existing assignment is rendered.
+     * Expected: One statement for the assignment with its details; the dropdown options come from the cache.
+     */
+    @Test
+    void editForm_ShouldStayWithinBudget() throws Exception {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM assign_task_schedule_entity", Long.class);
+        assertWithinBudget("GET /edit/{id}", get("/edit/{id}", id), 1, 8 * MB, 100);
+    }
+
+    /**
+     * Test case: Positive scenario where the player list is rendered.
+     * Expected: One statement for every player.
+     */
+    @Test
+    void playerList_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /player/get-players", get("/player/get-players"), 1, 24 * MB, 150);
+    }
+
+    /**
+     * Test case: Positive scenario where the task list is rendered.
+     * Expected: One statement for every task.
+     */
+    @Test
+    void taskList_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /task/get-tasks", get("/task/get-tasks"), 1, 4 * MB, 100);
+    }
+
+    /**
+     * Test case: Positive scenario where the schedule list is rendered.
+     * Expected: One statement for every schedule.
+     */
+    @Test
+    void scheduleList_ShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("GET /schedule/get-schedules", get("/schedule/get-schedules"), 1, 8 * MB, 150);
+    }
+
+    private void assertWithinBudget(String endpoint, RequestBuilder request, long maxStatements, long maxBytes,
+                                    long maxMedianMillis) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long threadId = Thread.currentThread().getId();
+        long[] statements = new long[ITERATIONS];
+        long[] bytes = new long[ITERATIONS];
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            statistics.clear();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long started = System.nanoTime();
+            mockMvc.perform(request).andExpect(status().isOk());
+            nanos[i] = System.nanoTime() - started;
+            bytes[i] = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            statements[i] = statistics.getPrepareStatementCount();
+        }
+        long maxStatementsSeen = Arrays.stream(statements).max().orElse(0);
+        long medianBytes = median(bytes);
+        double medianMillis = median(nanos) / 1e6;
+        long latencyBudget = Math.round(maxMedianMillis * LATENCY_FACTOR);
+        log.info("{}: {} statements, {} bytes allocated, {} ms median", endpoint, maxStatementsSeen, medianBytes,
+                String.format("%.2f", medianMillis));
+
+        assertAll(endpoint,
+                () -> assertTrue(maxStatementsSeen <= maxStatements,
+                        endpoint + " issued " + maxStatementsSeen + " statements, budget is " + maxStatements),
+                () -> assertTrue(medianBytes <= maxBytes,
+                        endpoint + " allocated " + medianBytes + " bytes, budget is " + maxBytes),
+                () -> assertTrue(medianMillis <= latencyBudget,
+                        endpoint + " took " + medianMillis + " ms at the median, budget is " + latencyBudget + " ms"));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
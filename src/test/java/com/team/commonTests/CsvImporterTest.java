@@ -0,0 +1,286 @@
+package com.team.commonTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team.common.CsvImporter;
+import com.team.common.ImportReport;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for CsvImporter
+ * Verifies that records are split, chunked, batched and rejected as documented
+ */
+class CsvImporterTest {
+
+    private static final String INSERT_SQL = "insert into row_entity (name, value) values (?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ParameterizedPreparedStatementSetter<String[]> setter = (ps, row) -> { };
+
+    private final List<List<String[]>> batches = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.batchUpdate(eq(INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batches.add(new ArrayList<>(invocation.<Collection<String[]>>getArgument(1)));
+                    return new int[0][];
+                });
+    }
+
+    /**
+     * Test case: Positive scenario where a record has quoted commas, escaped quotes and blank fields.
+     * Expected: Quotes should be removed, "" should become one quote and blank fields should be null.
+     */
+    @Test
+    void split_QuotedAndEscapedFields_ShouldUnquote() {
+        // Act
+        String[] fields = CsvImporter.split("a , \"b, c\",\"say \"\"hi\"\"\", ,\"\"");
+
+        // Assert
+        assertArrayEquals(new String[]{"a", "b, c", "say \"hi\"", null, null}, fields);
+    }
+
+    /**
+     * Test case: Negative scenario where a quoted field is never closed.
+     * Expected: IllegalArgumentException should be thrown.
+     */
+    @Test
+    void split_UnterminatedQuote_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CsvImporter.split("a,\"b"));
+    }
+
+    /**
+     * Test case: Positive scenario where the file has a header and blank lines between records.
+     * Expected: The header and blank lines should be skipped without being rejected.
+     */
+    @Test
+    void importCsv_HeaderAndBlankLines_ShouldSkipThem() throws IOException {
+        // Act
+        ImportReport report = importer(CsvImporter.DEFAULT_CHUNK_SIZE)
+                .importCsv(new StringReader("name,value\n\nx,1\n   \ny,2\n"));
+
+        // Assert
+        assertEquals(4, report.getLinesRead());
+        assertEquals(2, report.getImported());
+        assertEquals(0, report.getRejected());
+        assertEquals(1, batches.size());
+        assertArrayEquals(new String[]{"x", "1"}, batches.get(0).get(0));
+        assertArrayEquals(new String[]{"y", "2"}, batches.get(0).get(1));
+    }
+
+    /**
+     * Test case: Edge scenario where the input is empty.
+     * Expected: Nothing should be inserted and the report should be empty.
+     */
+    @Test
+    void importCsv_EmptyInput_ShouldImportNothing() throws IOException {
+        // Act
+        ImportReport report = importer(CsvImporter.DEFAULT_CHUNK_SIZE).importCsv(new StringReader(""));
+
+        // Assert
+        assertEquals(0, report.getLinesRead());
+        assertEquals(0, report.getImported());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    /**
+     * Test case: Positive scenario where the record count is not a multiple of the chunk size.
+     * Expected: Each full chunk and the remainder should be inserted in their own transaction.
+     */
+    @Test
+    void importCsv_PartialLastChunk_ShouldInsertEachChunkSeparately() throws IOException {
+        // Act
+        ImportReport report = importer(3).importCsv(new StringReader(csv(7)));
+
+        // Assert
+        assertEquals(7, report.getImported());
+        assertEquals(List.of(3, 3, 1), batchSizes());
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+    }
+
+    /**
+     * Test case: Edge scenario where the file has one record more than the default chunk.
+     * Expected: The default chunk should hold 5000 records and each insert should use 500-row JDBC batches.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_OneMoreThanDefaultChunk_ShouldSplitAt5000AndBatchBy500() throws IOException {
+        // Act
+        ImportReport report = importer(CsvImporter.DEFAULT_CHUNK_SIZE)
+                .importCsv(new StringReader(csv(CsvImporter.DEFAULT_CHUNK_SIZE + 1)));
+
+        // Assert
+        assertEquals(CsvImporter.DEFAULT_CHUNK_SIZE + 1, report.getImported());
+        assertEquals(List.of(CsvImporter.DEFAULT_CHUNK_SIZE, 1), batchSizes());
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(INSERT_SQL), anyCollection(),
+                eq(CsvImporter.JDBC_BATCH_SIZE), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    /**
+     * Test case: Positive scenario where a quoted field spans two lines, followed by an invalid record.
+     * Expected: The field should keep its line break and the rejection should name the file's line number.
+     */
+    @Test
+    void importCsv_QuotedFieldSpanningLines_ShouldKeepLineNumbers() throws IOException {
+        // Act
+        ImportReport report = importer(2)
+                .importCsv(new StringReader("name,value\na,1\n\"multi\nline\",2\n,3\nb,4\n"));
+
+        // Assert
+        assertEquals(5, report.getLinesRead());
+        assertEquals(3, report.getImported());
+        assertEquals("multi\nline", batches.get(0).get(1)[0]);
+        assertEquals(1, report.getRejected());
+        assertEquals(new ImportReport.RejectedLine(5, "name is required"), report.getRejectedLines().get(0));
+    }
+
+    /**
+     * Test case: Negative scenario where a quote is opened and never closed before the end of the file.
+     * Expected: Everything from the open quote on should be rejected as one record at the line it starts.
+     */
+    @Test
+    void importCsv_QuoteOpenAtEndOfFile_ShouldRejectLastRecord() throws IOException {
+        // Act
+        ImportReport report = importer(CsvImporter.DEFAULT_CHUNK_SIZE)
+                .importCsv(new StringReader("name,value\na,1\n\"open,2\nb,3\n"));
+
+        // Assert
+        assertEquals(1, report.getImported());
+        assertEquals(List.of(new ImportReport.RejectedLine(3, "Unterminated quoted field")),
+                report.getRejectedLines());
+    }
+
+    /**
+     * Test case: Negative scenario where more records are invalid than the report lists.
+     * Expected: All rejections should be counted but only the first 1000 should be listed.
+     */
+    @Test
+    void importCsv_MoreRejectionsThanReported_ShouldTruncateList() throws IOException {
+        // Arrange
+        StringBuilder csv = new StringBuilder("name,value\n");
+        for (int i = 0; i <= CsvImporter.MAX_REPORTED_REJECTIONS; i++) {
+            csv.append(",").append(i).append('\n');
+        }
+
+        // Act
+        ImportReport report = importer(CsvImporter.DEFAULT_CHUNK_SIZE).importCsv(new StringReader(csv.toString()));
+
+        // Assert
+        assertEquals(CsvImporter.MAX_REPORTED_REJECTIONS + 1, report.getRejected());
+        assertEquals(CsvImporter.MAX_REPORTED_REJECTIONS, report.getRejectedLines().size());
+        assertTrue(report.isRejectedLinesTruncated());
+        assertEquals(2, report.getRejectedLines().get(0).getLine());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    /**
+     * Test case: Positive scenario where exactly as many records are rejected as the report lists.
+     * Expected: The list should be complete and not marked as truncated.
+     */
+    @Test
+    void importCsv_RejectionsAtLimit_ShouldNotTruncate() throws IOException {
+        // Arrange
+        StringBuilder csv = new StringBuilder("name,value\n");
+        for (int i = 0; i < CsvImporter.MAX_REPORTED_REJECTIONS; i++) {
+            csv.append(",").append(i).append('\n');
+        }
+
+        // Act
+        ImportReport report = importer(CsvImporter.DEFAULT_CHUNK_SIZE).importCsv(new StringReader(csv.toString()));
+
+        // Assert
+        assertEquals(CsvImporter.MAX_REPORTED_REJECTIONS, report.getRejectedLines().size());
+        assertFalse(report.isRejectedLinesTruncated());
+    }
+
+    /**
+     * Test case: Negative scenario where the insert of the second chunk fails.
+     * Expected: The failure should reach the caller after the first chunk was inserted.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_SecondChunkFails_ShouldPropagateAfterFirstChunk() {
+        // Arrange
+        when(jdbcTemplate.batchUpdate(eq(INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batches.add(new ArrayList<>(invocation.<Collection<String[]>>getArgument(1)));
+                    return new int[0][];
+                })
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class,
+                () -> importer(2).importCsv(new StringReader(csv(4))));
+        assertEquals(List.of(2), batchSizes());
+    }
+
+    private CsvImporter<String[]> importer(int chunkSize) {
+        return new CsvImporter<>(jdbcTemplate, transactionTemplate, INSERT_SQL, CsvImporterTest::parse, setter,
+                chunkSize);
+    }
+
+    private static String[] parse(String[] fields) {
+        if (fields[0] == null) {
+            throw new IllegalArgumentException("name is required");
+        }
+        return fields;
+    }
+
+    private static String csv(int records) {
+        StringBuilder csv = new StringBuilder("name,value\n");
+        for (int i = 0; i < records; i++) {
+            csv.append("row").append(i).append(',').append(i).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private List<Integer> batchSizes() {
+        List<Integer> sizes = new ArrayList<>();
+        batches.forEach(batch -> sizes.add(batch.size()));
+        return sizes;
+    }
+}
@@ -0,0 +1,78 @@
+package com.team.commonTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.team.player.PlayerService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the request and service timers
+ * Verifies that controller methods and service methods are timed under their own names
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlayerService playerService;
+
+    /**
+     * Test case: Positive scenario where a service method is called directly.
+     * Expected: A team.service timer tagged with the service class and method should count the call.
+     */
+    @Test
+    void serviceMethod_WhenCalled_ShouldBeTimed() {
+        // Arrange
+        double before = serviceCount("PlayerService", "getById");
+
+        // Act
+        try {
+            playerService.getById(Long.MAX_VALUE);
+        } catch (RuntimeException ignored) {
+            // a missing player still counts as a call
+        }
+
+        // Assert
+        assertEquals(before + 1, serviceCount("PlayerService", "getById"), "The call should be timed");
+    }
+
+    /**
+     * Test case: Positive scenario where the player list page is requested.
+     * Expected: http.server.requests should carry the controller method as the handler tag.
+     */
+    @Test
+    void request_WhenHandled_ShouldBeTaggedWithHandlerMethod() throws Exception {
+        // Arrange
+        Timer existing = meterRegistry.find("http.server.requests").tag("handler", "PlayerController.getPlayers").timer();
+        long before = existing == null ? 0 : existing.count();
+
+        // Act
+        mockMvc.perform(get("/player/get-players")).andExpect(status().isOk());
+
+        // Assert
+        Timer timer = meterRegistry.find("http.server.requests").tag("handler", "PlayerController.getPlayers").timer();
+        assertNotNull(timer, "The request timer should be tagged with the handler method");
+        assertEquals(before + 1, timer.count(), "The request should be counted once");
+    }
+
+    private double serviceCount(String className, String method) {
+        Timer timer = meterRegistry.find("team.service").tag("class", className).tag("method", method).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,110 @@
+package com.team.commonTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.team.common.MissingVersionException;
+import com.team.common.PartialUpdate;
+import com.team.common.StaleUpdateException;
+import com.team.player.PlayerEntity;
+
+import javax.persistence.EntityManager;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for PartialUpdate
+ * Verifies that only the given columns are written and that stale versions are rejected
+ */
+@DataJpaTest
+class PartialUpdateTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private EntityManager entityManager;
+    private Long playerId;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = testEntityManager.getEntityManager();
+        PlayerEntity player = new PlayerEntity();
+        player.setFirstName("John");
+        player.setLastName("Doe");
+        player.setEmail("john.doe@example.com");
+        player.setType("Pro");
+        playerId = testEntityManager.persistAndGetId(player, Long.class);
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    /**
+     * Test case: Positive scenario where the caller holds the current version.
+     * Expected: Set columns should change, nulls included, skipped ones should not and the version should be
+     * incremented.
+     */
+    @Test
+    void execute_CurrentVersion_ShouldUpdateGivenColumnsAndBumpVersion() {
+        // Act
+        PartialUpdate.of(entityManager, PlayerEntity.class)
+                .set("firstName", "Jane")
+                .set("type", null)
+                .setIfPresent("email", null)
+                .execute(playerId, 0L);
+        testEntityManager.clear();
+
+        // Assert
+        PlayerEntity player = testEntityManager.find(PlayerEntity.class, playerId);
+        assertEquals("Jane", player.getFirstName(), "The given column should be updated");
+        assertNull(player.getType(), "An explicit null should clear the column");
+        assertEquals("john.doe@example.com", player.getEmail(), "A skipped null should leave the column unchanged");
+        assertEquals(1L, player.getVersion(), "The version should be incremented");
+    }
+
+    /**
+     * Test case: Negative scenario where someone else updated the row after the caller read it.
+     * Expected: The second writer with the old version should get a StaleUpdateException and change nothing.
+     */
+    @Test
+    void execute_StaleVersion_ShouldThrowConflict() {
+        // Arrange
+        PartialUpdate.of(entityManager, PlayerEntity.class).set("firstName", "Jane").execute(playerId, 0L);
+
+        // Act & Assert
+        assertThrows(StaleUpdateException.class, () ->
+                PartialUpdate.of(entityManager, PlayerEntity.class).set("firstName", "Jim").execute(playerId, 0L));
+        testEntityManager.clear();
+        assertEquals("Jane", testEntityManager.find(PlayerEntity.class, playerId).getFirstName(),
+                "The stale write should not be applied");
+    }
+
+    /**
+     * Test case: Negative scenario where the row does not exist.
+     * Expected: A NoSuchElementException should be thrown, matching getById.
+     */
+    @Test
+    void execute_UnknownId_ShouldThrowNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () ->
+                PartialUpdate.of(entityManager, PlayerEntity.class).set("firstName", "Jane").execute(-1L, 0L));
+    }
+
+    /**
+     * Test case: Negative scenario where a form is posted without its version.
+     * Expected: The update should be rejected rather than skip the concurrency check.
+     */
+    @Test
+    void execute_MissingVersion_ShouldBeRejected() {
+        // Act & Assert
+        assertThrows(MissingVersionException.class, () ->
+                PartialUpdate.of(entityManager, PlayerEntity.class).set("firstName", "Jane").execute(playerId, null));
+        testEntityManager.clear();
+        assertEquals("John", testEntityManager.find(PlayerEntity.class, playerId).getFirstName(),
+                "Nothing should be written");
+    }
+}
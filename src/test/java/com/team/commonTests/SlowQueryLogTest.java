@@ -0,0 +1,113 @@
+package com.team.commonTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team.common.SlowQueryLog;
+import com.team.common.SlowQueryView;
+import com.team.player.PlayerRepository;
+import com.team.player.PlayerService;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for SlowQueryLog
+ * Verifies that statements over the threshold are captured with their parameters, caller and plan
+ */
+@SpringBootTest(properties = {"team.slow-query.threshold-ms=0", "team.slow-query.explain=true"})
+class SlowQueryLogTest {
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryLog.clear();
+    }
+
+    /**
+     * Test case: Positive scenario where every statement counts as slow and a player search is run.
+     * Expected: The search should be listed with its bound prefix, the calling service method and an H2 plan.
+     */
+    @Test
+    void searchOptions_OverThreshold_ShouldBeCapturedWithPlan() throws InterruptedException {
+        // Act
+        playerService.searchOptions("Jo", 10);
+
+        // Assert
+        SlowQueryView search = awaitPlan("like");
+        assertEquals("PlayerService.searchOptions", search.getCaller(), "The calling service method should be recorded");
+        assertTrue(search.getLastParameters().contains("'jo%'"), "The bound prefix should be recorded");
+        assertEquals(1, search.getCount(), "The search should be counted once");
+        assertTrue(search.getPlan().contains("PLAYER_ENTITY"), "The plan should come from EXPLAIN ANALYZE");
+        assertTrue(search.getPlan().contains("scanCount"), "The plan should be analyzed");
+    }
+
+    /**
+     * Test case: Positive scenario where every statement counts as slow and a player row is locked.
+     * Expected: The locking select should get a plan from EXPLAIN alone, without being run again.
+     */
+    @Test
+    void findByIdForUpdate_OverThreshold_ShouldBeExplainedWithoutRunning() throws InterruptedException {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> playerRepository.findByIdForUpdate(1L));
+
+        // Assert
+        SlowQueryView lock = awaitPlan("for update");
+        assertEquals("SlowQueryLogTest.lambda$findByIdForUpdate_OverThreshold_ShouldBeExplainedWithoutRunning$0",
+                lock.getCaller(), "The caller should skip the JFR aspect");
+        assertTrue(lock.getPlan().contains("PLAYER_ENTITY"), "The plan should come from EXPLAIN");
+        assertFalse(lock.getPlan().contains("scanCount"), "The locking select should not be run to analyze it");
+    }
+
+    /**
+     * Test case: Positive scenario where every statement counts as slow and a JDBC batch is executed.
+     * Expected: The batch should be listed without the parameters of its last row.
+     */
+    @Test
+    void batchUpdate_OverThreshold_ShouldNotReportLastRowParameters() {
+        // Act
+        jdbcTemplate.batchUpdate("update player_entity set email = email where id = ?",
+                List.of(new Object[]{1L}, new Object[]{2L}));
+
+        // Assert
+        SlowQueryView batch = slowQueryLog.top().stream()
+                .filter(query -> query.getSql().startsWith("update player_entity set email = email"))
+                .findFirst().orElseThrow();
+        assertEquals(List.of(), batch.getLastParameters(), "Parameters added to the batch should be forgotten");
+    }
+
+    private SlowQueryView awaitPlan(String fragment) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Optional<SlowQueryView> query = slowQueryLog.top().stream()
+                    .filter(candidate -> candidate.getSql().contains(fragment))
+                    .findFirst();
+            if (query.isPresent() && query.get().getPlan() != null) {
+                return query.get();
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No statement containing " + fragment + " was captured with a plan: " + slowQueryLog.top());
+    }
+}
@@ -0,0 +1,74 @@
+package com.team.datasetTests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.team.dataset.DatasetGenerator;
+import com.team.dataset.DatasetReport;
+import com.team.dataset.DatasetSpec;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for DatasetGenerator
+ * Verifies row counts, the no-overlap invariant and that ids keep working for later inserts
+ */
+@SpringBootTest
+@DirtiesContext
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    /**
+     * Test case: Positive scenario where a small dataset spanning several chunks is generated on four threads.
+     * Expected: The requested rows should exist, no player should be booked twice on the same day and new
+     * players should get fresh ids.
+     */
+    @Test
+    void generate_SmallSpec_ShouldLoadConsistentData() {
+        // Arrange
+        DatasetSpec spec = new DatasetSpec();
+        spec.setPlayers(25_000);
+        spec.setTasks(50);
+        spec.setSchedules(300);
+        spec.setAssignments(100_000);
+        spec.setThreads(4);
+
+        // Act
+        DatasetReport report = datasetGenerator.generate(spec);
+
+        // Assert
+        assertEquals(25_000, count("player_entity"), "Every player should be inserted");
+        assertEquals(50, count("task_entity"), "Every task should be inserted");
+        assertEquals(300, count("schedule_entity"), "Every schedule should be inserted");
+        assertEquals(report.getAssignments(), count("assign_task_schedule_entity"), "The report should count the assignments");
+        assertTrue(report.getAssignments() > 50_000, "Most of the requested assignments should fit");
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM assign_task_schedule_entity a"
+                + " JOIN assign_task_schedule_entity b ON a.player_id = b.player_id AND a.id < b.id"
+                + " AND a.start_date <= b.end_date AND a.end_date >= b.start_date", Long.class),
+                "No player should have overlapping assignments");
+
+        PlayerEntity player = new PlayerEntity();
+        player.setFirstName("New");
+        player.setLastName("Player");
+        player.setEmail("new.player@example.com");
+        assertEquals(25_001L, playerRepository.save(player).getId(), "The identity should continue after the generated ids");
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.team.jfrTests;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.team.player.PlayerController;
+import com.team.schedule.ScheduleController;
+import com.team.task.TaskController;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * Test class for controller handlers under FlightRecorderAspect
+ * Verifies that every entity list page still renders once its controller is proxied by the aspect
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FlightRecorderAspectTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private PlayerController playerController;
+
+    @Autowired
+    private ScheduleController scheduleController;
+
+    /**
+     * Test case: Positive scenario where the controllers are advised by the aspect.
+     * Expected: Each controller bean should be an AOP proxy, so the page tests below run through the aspect.
+     */
+    @Test
+    void controllers_ShouldBeProxiedByAspect() {
+        assertTrue(AopUtils.isAopProxy(taskController), "TaskController should be proxied");
+        assertTrue(AopUtils.isAopProxy(playerController), "PlayerController should be proxied");
+        assertTrue(AopUtils.isAopProxy(scheduleController), "ScheduleController should be proxied");
+    }
+
+    /**
+     * Test case: Positive scenario where the task list page is requested through the proxied controller.
+     * Expected: The page should render instead of failing on the proxy's uninjected fields.
+     */
+    @Test
+    void taskList_ThroughAspect_ShouldRender() throws Exception {
+        mockMvc.perform(get("/task/get-tasks")).andExpect(status().isOk()).andExpect(view().name("Tasks"));
+    }
+
+    /**
+     * Test case: Positive scenario where the player list page is requested through the proxied controller.
+     * Expected: The page should render.
+     */
+    @Test
+    void playerList_ThroughAspect_ShouldRender() throws Exception {
+        mockMvc.perform(get("/player/get-players")).andExpect(status().isOk()).andExpect(view().name("Players"));
+    }
+
+    /**
+     * Test case: Positive scenario where the schedule list page is requested through the proxied controller.
+     * Expected: The page should render.
+     */
+    @Test
+    void scheduleList_ThroughAspect_ShouldRender() throws Exception {
+        mockMvc.perform(get("/schedule/get-schedules")).andExpect(status().isOk()).andExpect(view().name("Schedules"));
+    }
+}
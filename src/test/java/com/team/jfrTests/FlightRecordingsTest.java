@@ -0,0 +1,94 @@
+package com.team.jfrTests;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.team.assignTaskSchedule.AssignTaskScheduleService;
+import com.team.assignTaskSchedule.SearchDto;
+import com.team.jfr.FlightRecordings;
+import com.team.jfr.RecordingStateException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for FlightRecordings and the application's JFR events
+ * Verifies that a bounded recording captures service and repository events with their row counts and ranges
+ */
+@SpringBootTest
+class FlightRecordingsTest {
+
+    @Autowired
+    private FlightRecordings flightRecordings;
+
+    @Autowired
+    private AssignTaskScheduleService assignTaskScheduleService;
+
+    @AfterEach
+    void tearDown() {
+        flightRecordings.close();
+    }
+
+    /**
+     * Test case: Positive scenario where a one-week search runs during a recording.
+     * Expected: The dump should hold a service event for findByDateBetween with a seven-day range and zero rows,
+     * and a repository event for the first page query.
+     */
+    @Test
+    void dump_AfterSearch_ShouldContainServiceAndRepositoryEvents() throws Exception {
+        // Arrange
+        flightRecordings.start(60, 10);
+        SearchDto searchDto = new SearchDto();
+        searchDto.setStartDateStr("2024-06-01");
+        searchDto.setEndDateStr("2024-06-07");
+
+        // Act
+        assignTaskScheduleService.findByDateBetween(searchDto);
+        assignTaskScheduleService.getTaskSchedulePage(null, null, 10);
+        flightRecordings.stop();
+        Path dump = flightRecordings.dump();
+        List<RecordedEvent> events;
+        try {
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        // Assert
+        Optional<RecordedEvent> search = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.team.Service"))
+                .filter(event -> "AssignTaskScheduleService.findByDateBetween".equals(event.getString("method")))
+                .findFirst();
+        assertTrue(search.isPresent(), "The service call should be recorded");
+        assertEquals("AssignTaskSchedule", search.get().getString("entityType"), "The entity type should come from the service name");
+        assertEquals(7, search.get().getLong("rangeDays"), "The range should span the searched week");
+        assertEquals(0, search.get().getLong("rows"), "No assignments exist yet");
+        assertTrue(events.stream()
+                        .filter(event -> event.getEventType().getName().equals("com.team.Repository"))
+                        .anyMatch(event -> "AssignTaskScheduleRepository.findFirstPage".equals(event.getString("method"))),
+                "Repository calls should be recorded under the application's interface");
+    }
+
+    /**
+     * Test case: Negative scenario where a second recording is started while one is running.
+     * Expected: The second start should be rejected.
+     */
+    @Test
+    void start_WhileRunning_ShouldBeRejected() {
+        // Arrange
+        flightRecordings.start(60, 10);
+
+        // Act & Assert
+        assertThrows(RecordingStateException.class, () -> flightRecordings.start(60, 10));
+    }
+}
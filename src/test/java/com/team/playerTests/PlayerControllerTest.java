@@ -8,13 +8,22 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.context.request.WebRequest;
 
+import com.team.common.DataVersions;
+import com.team.common.ImportReport;
+import com.team.common.StaleUpdateException;
 import com.team.player.PlayerController;
 import com.team.player.PlayerEntity;
 import com.team.player.PlayerService;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +46,13 @@ public class PlayerControllerTest {
     @Mock
     private Model model;
 
+    // Mock the data versions and request so conditional GET checks can be controlled
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private WebRequest webRequest;
+
     // Inject the mocked dependencies into PlayerController
     @InjectMocks
     private PlayerController playerController;
@@ -74,7 +90,7 @@ public class PlayerControllerTest {
         when(playerService.getPlayers()).thenReturn(playerList);
         
         // Act: Call the method we're testing
-        String viewName = playerController.getPlayers(model);
+        String viewName = playerController.getPlayers(webRequest, model);
         
         // Assert: Verify the expected behavior
         // Verify that model.addAttribute was called with "players" and our player list
@@ -96,7 +112,7 @@ public class PlayerControllerTest {
         when(playerService.getPlayers()).thenReturn(emptyList);
         
         // Act: Execute the method
-        String viewName = playerController.getPlayers(model);
+        String viewName = playerController.getPlayers(webRequest, model);
         
         // Assert: Verify expected behavior with empty list
         // Verify that model received empty list
@@ -119,7 +135,7 @@ public class PlayerControllerTest {
         // Act & Assert: Verify exception handling
         // Verify that the controller properly propagates the exception
         assertThrows(RuntimeException.class, () -> {
-            playerController.getPlayers(model);
+            playerController.getPlayers(webRequest, model);
         });
         // Verify service method was called despite exception
         verify(playerService, times(1)).getPlayers();
@@ -141,7 +157,7 @@ public class PlayerControllerTest {
         when(playerService.getPlayers()).thenReturn(playerList);
         
         // Act: Execute the method
-        playerController.getPlayers(model);
+        playerController.getPlayers(webRequest, model);
         
         // Assert: Verify model attributes
         // Use argument matcher to verify the content of the list
@@ -470,36 +486,23 @@ public class PlayerControllerTest {
     void createPlayer_ShouldRedirectToGetPlayers_WhenUpdateIsSuccessful() {
         // Arrange
         Long id = 1L;
-        PlayerEntity existingPlayer = new PlayerEntity();
-        existingPlayer.setId(id);
-        existingPlayer.setFirstName("John");
-        existingPlayer.setLastName("Doe");
-        existingPlayer.setEmail("john.doe@example.com");
-       // existingPlayer.setRank("Captain");
-        existingPlayer.setType("Professional");
-
         PlayerEntity updatedPlayer = new PlayerEntity();
         updatedPlayer.setFirstName("Jane");
         updatedPlayer.setLastName("Smith");
         updatedPlayer.setEmail("jane.smith@example.com");
        // updatedPlayer.setRank("Lieutenant");
         updatedPlayer.setType("Amateur");
-        when(playerService.getById(id)).thenReturn(existingPlayer);
-        when(playerService.create(existingPlayer)).thenReturn(existingPlayer);
+        updatedPlayer.setVersion(3L);
 
         // Act
         String viewName = playerController.createPlayer(id, updatedPlayer);
 
         // Assert
         assertEquals("redirect:/player/get-players", viewName, "The method should redirect to the 'get-players' endpoint");
-        verify(playerService, times(1)).getById(id);
-        verify(playerService, times(1)).create(existingPlayer);
-        assertEquals("Jane", existingPlayer.getFirstName(), "The first name should be updated");
-        assertEquals("Smith", existingPlayer.getLastName(), "The last name should be updated");
-        assertEquals("jane.smith@example.com", existingPlayer.getEmail(), "The email should be updated");
-       // assertEquals("Lieutenant", existingPlayer.getRank(), "The rank should be updated");
-        assertEquals("Amateur", existingPlayer.getType(), "The type should be updated");
-        assertNotNull(existingPlayer.getUpdatedOn(), "The updatedOn field should be set");
+        verify(playerService, times(1)).update(id, updatedPlayer);
+        verify(playerService, never()).getById(any());
+        verify(playerService, never()).create(any());
+        assertNotNull(updatedPlayer.getUpdatedOn(), "The updatedOn field should be set");
     }
     
 
@@ -518,47 +521,78 @@ public class PlayerControllerTest {
         //updatedPlayer.setRank("Lieutenant");
         updatedPlayer.setType("Amateur");
 
-        when(playerService.getById(id)).thenThrow(new RuntimeException("Player not found"));
+        doThrow(new NoSuchElementException("Player not found")).when(playerService).update(id, updatedPlayer);
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> 
             playerController.createPlayer(id, updatedPlayer)
         );
         assertEquals("Player not found", exception.getMessage(), "The exception message should match");
-        verify(playerService, times(1)).getById(id);
+        verify(playerService, times(1)).update(id, updatedPlayer);
         verify(playerService, times(0)).create(any());
     }
 
      /**
-     * Test case: Negative scenario where the service throws an exception during update.
-     * Expected: The method should propagate the exception.
+     * Test case: Negative scenario where the player was changed by someone else after the form was loaded.
+     * Expected: The stale-update conflict should propagate so the client gets a 409.
      */
     @Test
-    void createPlayer2_ServiceThrowsException_ShouldPropagateException() {
+    void createPlayer2_StaleVersion_ShouldPropagateConflict() {
         // Arrange
         Long id = 1L;
-        PlayerEntity existingPlayer = new PlayerEntity();
-        existingPlayer.setId(id);
-
         PlayerEntity updatedPlayer = new PlayerEntity();
         updatedPlayer.setFirstName("Jane");
         updatedPlayer.setLastName("Smith");
         updatedPlayer.setEmail("jane.smith@example.com");
-      //  updatedPlayer.setRank("Lieutenant");
         updatedPlayer.setType("Amateur");
+        updatedPlayer.setVersion(1L);
+        doThrow(new StaleUpdateException(PlayerEntity.class, id, 1L)).when(playerService).update(id, updatedPlayer);
 
-        when(playerService.getById(id)).thenReturn(existingPlayer);
-        when(playerService.create(existingPlayer)).thenThrow(new RuntimeException("Service error"));
- // Act & Assert
- RuntimeException exception = assertThrows(RuntimeException.class, () -> 
- playerController.createPlayer(id, updatedPlayer)
-);
-assertEquals("Service error", exception.getMessage(), "The exception message should match");
-verify(playerService, times(1)).getById(id);
-verify(playerService, times(1)).create(existingPlayer);
-}
+        // Act & Assert
+        assertThrows(StaleUpdateException.class, () -> playerController.createPlayer(id, updatedPlayer));
+        verify(playerService, times(1)).update(id, updatedPlayer);
+        verify(playerService, never()).create(any());
+    }
 
+    /**
+     * Test case: Positive scenario where a CSV body is posted to the import endpoint.
+     * Expected: The body should be handed to the service as text and the service report returned.
+     */
+    @Test
+    void importPlayers_ShouldDelegateToServiceAndReturnReport() throws Exception {
+        // Arrange
+        String csv = "first_name,last_name,email,rank,type\nJohn,Doe,john.doe@example.com,1,Pro\n";
+        ImportReport report = new ImportReport();
+        report.setImported(1);
+        when(playerService.importCsv(any())).thenAnswer(invocation -> {
+            BufferedReader reader = new BufferedReader(invocation.getArgument(0, Reader.class));
+            assertEquals("first_name,last_name,email,rank,type", reader.readLine(), "The header should be readable");
+            return report;
+        });
 
-}
+        // Act
+        ImportReport result = playerController.importPlayers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertSame(report, result, "The service report should be returned");
+        verify(playerService, times(1)).importCsv(any());
+    }
+
+    /**
+     * Test case: Positive scenario where the client's copy of the players page is current.
+     * Expected: The method should return null for a 304 without loading players or touching the model.
+     */
+    @Test
+    void getPlayers_WhenNotModified_ShouldSkipServiceAndModel() {
+        // Arrange
+        when(dataVersions.checkNotModified(webRequest, DataVersions.Type.PLAYERS)).thenReturn(true);
 
+        // Act
+        String viewName = playerController.getPlayers(webRequest, model);
 
+        // Assert
+        assertNull(viewName, "No view should be rendered for a 304");
+        verifyNoInteractions(playerService, model);
+    }
+}
@@ -0,0 +1,138 @@
+package com.team.playerTests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.roaringbitmap.RoaringBitmap;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.team.assignTaskSchedule.PlayerAvailabilityIndex;
+import com.team.common.ImportReport;
+import com.team.common.OptionView;
+import com.team.player.PlayerService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for PlayerService.importCsv
+ * Verifies that the cached player options and the availability index reflect imported rows whether the import
+ * succeeds or fails part way
+ */
+@SpringBootTest
+class PlayerImportTest {
+
+    private static final String EMAIL_DOMAIN = "@import.test";
+    private static final LocalDate FREE_DAY = LocalDate.of(2999, 1, 1);
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerAvailabilityIndex availabilityIndex;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM player_entity WHERE email LIKE ?", "%" + EMAIL_DOMAIN);
+    }
+
+    /**
+     * Test case: Positive scenario where the options are cached and an import then succeeds.
+     * Expected: The options and the player list should both include the imported player.
+     */
+    @Test
+    void importCsv_Success_ShouldRefreshCachedOptions() throws IOException {
+        // Arrange
+        playerService.getOptions();
+
+        // Act
+        ImportReport report = playerService.importCsv(new StringReader(
+                "first_name,last_name,email\nAaron,Imported,aaron" + EMAIL_DOMAIN + "\n"));
+
+        // Assert
+        assertEquals(1, report.getImported(), "The player should be imported");
+        assertTrue(hasOption(playerService.getOptions(), "Aaron Imported"), "The cached options should be refreshed");
+        assertTrue(playerService.getPlayers().stream().anyMatch(player -> "Aaron".equals(player.getFirstName())),
+                "The player list should include the imported player");
+        assertEquals(1, countAvailable(), "The availability index should include the imported player");
+    }
+
+    /**
+     * Test case: Negative scenario where the options are cached and the import fails after its first chunk
+     * has committed.
+     * Expected: The failure should reach the caller and the options should still include the committed rows.
+     */
+    @Test
+    void importCsv_FailureAfterCommittedChunk_ShouldRefreshCachedOptions() {
+        // Arrange
+        playerService.getOptions();
+        StringBuilder csv = new StringBuilder("first_name,last_name,email\n");
+        for (int i = 0; i < 5_000; i++) {
+            csv.append("Aaron,Chunk").append(i).append(",chunk").append(i).append(EMAIL_DOMAIN).append('\n');
+        }
+        Reader failingAfterFirstChunk = new FailingReader(csv.toString());
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> playerService.importCsv(failingAfterFirstChunk));
+        assertTrue(hasOption(playerService.getOptions(), "Aaron Chunk0"), "The cached options should be refreshed");
+        assertEquals(5_000L, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM player_entity WHERE email LIKE ?", Long.class, "%" + EMAIL_DOMAIN),
+                "The first chunk should stay committed");
+        assertEquals(5_000L, playerService.getPlayers().stream()
+                        .filter(player -> player.getEmail().endsWith(EMAIL_DOMAIN)).count(),
+                "The player list should include the committed rows");
+        assertEquals(5_000, countAvailable(), "The availability index should include the committed rows");
+    }
+
+    /**
+     * Counts the imported players the index reports free on a day no assignment reaches. Other tests share the
+     * context and insert players around the service, so the index's total is not a stable baseline.
+     */
+    private long countAvailable() {
+        RoaringBitmap available = availabilityIndex.findAvailable(FREE_DAY, FREE_DAY);
+        return jdbcTemplate.queryForList("SELECT id FROM player_entity WHERE email LIKE ?", Long.class,
+                "%" + EMAIL_DOMAIN).stream().filter(id -> available.contains(Math.toIntExact(id))).count();
+    }
+
+    private static boolean hasOption(List<OptionView> options, String name) {
+        return options.stream().anyMatch(option -> name.equals(option.getName()));
+    }
+
+    /**
+     * Serves the text and then fails, as a dropped upload would.
+     */
+    private static final class FailingReader extends Reader {
+
+        private final StringReader text;
+
+        private FailingReader(String text) {
+            this.text = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = text.read(buffer, offset, length);
+            if (read < 0) {
+                throw new UncheckedIOException(new IOException("Connection reset"));
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            text.close();
+        }
+    }
+}
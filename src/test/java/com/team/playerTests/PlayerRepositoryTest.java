@@ -0,0 +1,78 @@
+package com.team.playerTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.team.common.OptionView;
+import com.team.player.PlayerEntity;
+import com.team.player.PlayerRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for PlayerRepository
+ * Verifies that the option search matches the start of a first name, a last name or the full name
+ */
+@DataJpaTest
+class PlayerRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @BeforeEach
+    void setUp() {
+        persistPlayer("Jane", "Doe");
+        persistPlayer("Janet", "Smith");
+        persistPlayer("Doug", "Jansen");
+    }
+
+    /**
+     * Test case: Positive scenario where the search text is a single word.
+     * Expected: Players whose first or last name starts with it should be returned in name order.
+     */
+    @Test
+    void searchOptions_SingleWord_ShouldMatchFirstOrLastName() {
+        // Act
+        List<String> names = search("jan");
+
+        // Assert
+        assertEquals(List.of("Doug Jansen", "Jane Doe", "Janet Smith"), names);
+    }
+
+    /**
+     * Test case: Positive scenario where the search text is a first name followed by the start of a last name.
+     * Expected: Only the player whose full name starts with it should be returned.
+     */
+    @Test
+    void searchOptions_FullNamePrefix_ShouldMatchFullName() {
+        // Act
+        List<String> names = search("Jane D");
+
+        // Assert
+        assertEquals(List.of("Jane Doe"), names);
+    }
+
+    private List<String> search(String query) {
+        return playerRepository.searchOptions(OptionView.likePrefix(query), PageRequest.of(0, 10)).stream()
+                .map(OptionView::getName)
+                .collect(Collectors.toList());
+    }
+
+    private void persistPlayer(String firstName, String lastName) {
+        PlayerEntity player = new PlayerEntity();
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setEmail(firstName.toLowerCase() + "@team.com");
+        entityManager.persist(player);
+    }
+}